@@ -0,0 +1,64 @@
+package org.flagd.hub.config.server.configuration.grpc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.events.FlagdConfigurationChangedEvent;
+import org.flagd.hub.config.server.services.FlagdConfigurationService;
+import org.flagd.hub.grpc.FlagSyncServer;
+import org.flagd.hub.grpc.FlagSyncService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Exposes the flagd configuration through flagd's gRPC sync protocol
+ * ({@code flagd.sync.v1.FlagSyncService}) and pushes every configuration change to connected flagd instances.
+ * A stream with the selector {@code area:<area>} only receives the flags of that area, and only when they change.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "grpc.sync.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcSyncConfig {
+    @Value("${grpc.sync.port:8092}")
+    private int grpcSyncPort;
+
+    @Bean
+    public FlagSyncService flagSyncService(FlagdConfigurationService flagdConfigurationService) {
+        return new FlagSyncService(selector -> flagdConfigurationService.getSnapshot(selector).getContentAsString());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public FlagSyncServer flagSyncServer(FlagSyncService flagSyncService) {
+        return new FlagSyncServer(grpcSyncPort, flagSyncService);
+    }
+
+    @Bean
+    public FlagSyncPublisher flagSyncPublisher(FlagSyncService flagSyncService, MeterRegistry meterRegistry) {
+        Gauge.builder("flagdhub.sync.streams", flagSyncService, FlagSyncService::getSubscriberCount)
+                .description("Open flagd gRPC sync streams")
+                .register(meterRegistry);
+        return new FlagSyncPublisher(flagSyncService, Counter.builder("flagdhub.sync.pushes")
+                .description("flagd configurations pushed to the gRPC sync streams")
+                .register(meterRegistry));
+    }
+
+    public static class FlagSyncPublisher {
+        private final FlagSyncService flagSyncService;
+        private final Counter pushes;
+
+        public FlagSyncPublisher(FlagSyncService flagSyncService, Counter pushes) {
+            this.flagSyncService = flagSyncService;
+            this.pushes = pushes;
+        }
+
+        @EventListener
+        public void onFlagdConfigurationChanged(FlagdConfigurationChangedEvent event) {
+            log.debug("pushing flagd configuration revision {} to gRPC sync streams", event.snapshot().getRevision());
+            pushes.increment(flagSyncService.publish());
+        }
+    }
+}
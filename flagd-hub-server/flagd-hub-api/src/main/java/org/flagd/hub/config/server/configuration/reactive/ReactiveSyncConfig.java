@@ -0,0 +1,26 @@
+package org.flagd.hub.config.server.configuration.reactive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flagd.hub.config.server.services.FlagdConfigurationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Serves the flagd configuration for pollers on a separate non-blocking port, see {@link ReactiveSyncServer}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "flagd-hub.sync.reactive.enabled", havingValue = "true")
+public class ReactiveSyncConfig {
+    @Value("${flagd-hub.sync.reactive.port:8093}")
+    private int reactiveSyncPort;
+
+    @Value("${flagd-hub.sync.reactive.event-loop-threads:0}")
+    private int eventLoopThreads;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReactiveSyncServer reactiveSyncServer(FlagdConfigurationService flagdConfigurationService, MeterRegistry meterRegistry) {
+        return new ReactiveSyncServer(reactiveSyncPort, eventLoopThreads, flagdConfigurationService, meterRegistry);
+    }
+}
@@ -0,0 +1,131 @@
+package org.flagd.hub.config.server.configuration.reactive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.services.ContentEncoding;
+import org.flagd.hub.config.server.services.FlagdConfigurationService;
+import org.flagd.hub.config.server.services.FlagdConfigurationSnapshot;
+import org.flagd.hub.config.server.services.SyncRequestCounters;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.LoopResources;
+
+import java.util.List;
+
+/**
+ * Serves {@code GET /flagd/flags} on a non-blocking Netty server with a small fixed number of event loop
+ * threads, so idle and slow flagd pollers cost a connection but never a thread. It answers exactly like
+ * the endpoint on the main port: selectors, ETags and pre-compressed gzip.
+ */
+@Log4j2
+public class ReactiveSyncServer {
+    static final String PATH = "/flagd/flags";
+    static final String TRANSPORT = "reactive-http";
+    private static final String SELECTOR_PARAMETER = "selector";
+
+    private final int port;
+    private final int eventLoopThreads;
+    private final FlagdConfigurationService flagdConfigurationService;
+    private final SyncRequestCounters syncRequestCounters;
+    private final MeterRegistry meterRegistry;
+    /** Netty requests are not in {@code http.server.requests}, so their latency is recorded here */
+    private final Timer syncLatency;
+    private LoopResources loopResources;
+    private DisposableServer server;
+
+    /**
+     * @param port the port to listen on, 0 for any free port
+     * @param eventLoopThreads the number of event loop threads, 0 for one per processor
+     */
+    public ReactiveSyncServer(int port, int eventLoopThreads, FlagdConfigurationService flagdConfigurationService,
+                              MeterRegistry meterRegistry) {
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        this.flagdConfigurationService = flagdConfigurationService;
+        this.syncRequestCounters = new SyncRequestCounters(meterRegistry, TRANSPORT);
+        this.meterRegistry = meterRegistry;
+        this.syncLatency = Timer.builder("flagdhub.sync.duration")
+                .description("Time to answer a flagd configuration poll, until the response is written")
+                .tag("transport", TRANSPORT)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        loopResources = LoopResources.create("flagd-sync", 1, eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .route(routes -> routes.get(PATH, this::timedGetFlagdConfiguration))
+                .bindNow();
+        log.info("reactive flagd sync server started on port {} with {} event loop threads", server.port(), eventLoopThreads);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            loopResources.disposeLater().block();
+            log.info("reactive flagd sync server stopped");
+        }
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+
+    private Publisher<Void> timedGetFlagdConfiguration(HttpServerRequest request, HttpServerResponse response) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return Mono.from(getFlagdConfiguration(request, response))
+                .doFinally(signal -> sample.stop(syncLatency));
+    }
+
+    private Publisher<Void> getFlagdConfiguration(HttpServerRequest request, HttpServerResponse response) {
+        List<String> selectors = new QueryStringDecoder(request.uri()).parameters().get(SELECTOR_PARAMETER);
+        String selector = selectors == null ? null : selectors.get(0);
+        FlagdConfigurationSnapshot snapshot;
+        try {
+            snapshot = flagdConfigurationService.getCachedSnapshot(selector);
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid flagd configuration selector: {}", e.getMessage());
+            return response.status(HttpResponseStatus.BAD_REQUEST).send();
+        }
+
+        if (snapshot != null) {
+            return send(request, response, snapshot);
+        }
+
+        // building a snapshot may read the storage, which must not block an event loop
+        return Mono.fromCallable(() -> flagdConfigurationService.getSnapshot(selector))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(built -> Mono.from(send(request, response, built)));
+    }
+
+    private Publisher<Void> send(HttpServerRequest request, HttpServerResponse response, FlagdConfigurationSnapshot snapshot) {
+        ContentEncoding encoding = ContentEncoding.negotiate(request.requestHeaders().get(HttpHeaderNames.ACCEPT_ENCODING));
+        response.header(HttpHeaderNames.ETAG, snapshot.getEtag(encoding))
+                .header(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE)
+                .header(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+        if (snapshot.matches(request.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+            syncRequestCounters.count(false, encoding);
+            return response.status(HttpResponseStatus.NOT_MODIFIED).send();
+        }
+
+        syncRequestCounters.count(true, encoding);
+        response.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaderNames.CONTENT_ENCODING, encoding.getToken());
+        }
+
+        return response.sendByteArray(Mono.just(snapshot.getContent(encoding)));
+    }
+}
@@ -1,16 +1,27 @@
 package org.flagd.hub.config.server.configuration.redis;
 
+import org.flagd.hub.config.server.storage.FlagStorage;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis connection, templates and repositories, only created when flags are stored in Redis.
+ * The Spring Boot Redis auto-configuration is excluded, see {@link org.flagd.hub.config.server.Application},
+ * so the memory and file engines run without a Redis connection or a Redis health check.
+ */
 @Configuration
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+@EnableRedisRepositories(basePackages = "org.flagd.hub.config.server.repositories")
 public class RedisConfig {
     @Value("${spring.redis.host}")
     private String redisHost;
@@ -41,4 +52,9 @@ public class RedisConfig {
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
 }
@@ -12,7 +12,16 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+
+/**
+ * Authenticates requests with a bearer token, verified through the {@link JwtTokenCache}.
+ */
 public class JwtRequestFilter extends OncePerRequestFilter {
+    private final JwtTokenCache jwtTokenCache;
+
+    public JwtRequestFilter(JwtTokenCache jwtTokenCache) {
+        this.jwtTokenCache = jwtTokenCache;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -30,8 +39,8 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         token = authorizationHeader.substring(7);
         try {
-            username = JwtUtil.validateToken(token);
-        } catch (JwtException e) {
+            username = jwtTokenCache.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
             chain.doFilter(request, response); // Pass request to the next filter
             return;
         }
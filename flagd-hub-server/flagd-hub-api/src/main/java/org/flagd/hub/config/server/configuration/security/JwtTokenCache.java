@@ -0,0 +1,131 @@
+package org.flagd.hub.config.server.configuration.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers verified tokens by their SHA-256 digest until they expire, so a token is verified and
+ * parsed once instead of on every request, and raw tokens are never kept. Revoked tokens are
+ * remembered until they expire and never verify again.
+ */
+@Log4j2
+@Component
+public class JwtTokenCache {
+    private final int maximumSize;
+    private final LongSupplier clock;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    /** expiration by digest of the revoked tokens */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    private record VerifiedToken(String subject, long expiresAt) {
+    }
+
+    @Autowired
+    public JwtTokenCache(@Value("${flagd-hub.security.token-cache.maximum-size:10000}") int maximumSize,
+                         MeterRegistry meterRegistry) {
+        this(maximumSize, System::currentTimeMillis, meterRegistry);
+    }
+
+    JwtTokenCache(int maximumSize, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.hits = verifications(meterRegistry, "hit");
+        this.misses = verifications(meterRegistry, "miss");
+    }
+
+    /**
+     * @return the subject of the token
+     * @throws JwtException if the token is invalid, expired or revoked
+     */
+    public String verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt() > clock.getAsLong()) {
+                hits.increment();
+                return cached.subject();
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+
+        misses.increment();
+        if (revokedTokens.containsKey(digest)) {
+            throw new JwtException("token was revoked");
+        }
+
+        Claims claims = JwtUtil.parseToken(token);
+        if (claims.getExpiration() != null) {
+            cache(digest, new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+        }
+
+        return claims.getSubject();
+    }
+
+    /**
+     * Invalidates the token until it expires.
+     * @throws JwtException if the token is invalid or expired, so only holders of a valid token can revoke it
+     */
+    public void revoke(String token) {
+        Claims claims = JwtUtil.parseToken(token);
+        String digest = digest(token);
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+
+        long now = clock.getAsLong();
+        revokedTokens.values().removeIf(revokedUntil -> revokedUntil <= now);
+        // revoke before evicting, so a concurrent verification cannot cache the token again
+        revokedTokens.put(digest, expiresAt);
+        verifiedTokens.remove(digest);
+        log.info("revoked token of '{}'", claims.getSubject());
+    }
+
+    int size() {
+        return verifiedTokens.size();
+    }
+
+    private void cache(String digest, VerifiedToken verifiedToken) {
+        if (verifiedTokens.size() >= maximumSize) {
+            long now = clock.getAsLong();
+            verifiedTokens.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (verifiedTokens.size() >= maximumSize) {
+                return;
+            }
+        }
+
+        verifiedTokens.put(digest, verifiedToken);
+        // the token may have been revoked while it was verified
+        if (revokedTokens.containsKey(digest)) {
+            verifiedTokens.remove(digest);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter verifications(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("flagdhub.auth.token.verifications")
+                .description("Bearer token checks, answered from the verification cache (hit) or by verifying the signature (miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,15 +1,26 @@
 package org.flagd.hub.config.server.configuration.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 public class JwtUtil {
     private static final String SECRET_KEY = getConfigValue("SECRET_KEY");
     private static final long EXPIRATION_TIME = Duration.ofHours(Integer.parseInt(getConfigValue("TOKEN_EXPIRATION_IN_HOURS"))).toMillis();
+    private static final Key SIGNING_KEY = new SecretKeySpec(Decoders.BASE64.decode(SECRET_KEY), SignatureAlgorithm.HS256.getJcaName());
+    // parsers are immutable and thread-safe
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(SIGNING_KEY)
+            .build();
 
     private static String getConfigValue(String key) {
         // Try environment variable first, then system property
@@ -21,20 +32,25 @@ public class JwtUtil {
     }
 
     public static String generateToken(String username) {
+        // a unique id keeps tokens issued within the same second apart, so revoking one leaves the others valid
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(Date.from(Instant.now().plusMillis(EXPIRATION_TIME)))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .signWith(SIGNING_KEY, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public static String validateToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseToken(token).getSubject();
+    }
+
+    /**
+     * Verifies the signature and expiration of the token.
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public static Claims parseToken(String token) {
+        return PARSER.parseClaimsJws(token).getBody();
     }
 }
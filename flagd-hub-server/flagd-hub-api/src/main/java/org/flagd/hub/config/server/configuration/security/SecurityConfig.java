@@ -1,5 +1,6 @@
 package org.flagd.hub.config.server.configuration.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,18 +28,20 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenCache jwtTokenCache) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // streamed responses complete in an async dispatch of a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/flagd-hub/login").permitAll()
                         .requestMatchers("/insecure/**").permitAll()
                         .requestMatchers("/flagd-hub/**").authenticated()
                         .anyRequest().permitAll())
-                .addFilterBefore(new JwtRequestFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtRequestFilter(jwtTokenCache), UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
@@ -1,9 +1,11 @@
 package org.flagd.hub.config.server.configuration.web;
 
 
+import org.flagd.hub.config.server.controllers.FlagdHubController;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -23,6 +25,7 @@ public class CorsConfig {
                         .allowedOrigins(corsAllowedOrigins) // Allow configured origins
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Allow all HTTP methods
                         .allowedHeaders("*") // Allow all headers
+                        .exposedHeaders(FlagdHubController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG) // Let the UI read paging cursors and validators
                         .allowCredentials(true); // Allow credentials (cookies, authorization headers)
             }
         };
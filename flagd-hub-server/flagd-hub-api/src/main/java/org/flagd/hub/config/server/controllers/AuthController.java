@@ -1,5 +1,6 @@
 package org.flagd.hub.config.server.controllers;
 
+import org.flagd.hub.config.server.configuration.security.JwtTokenCache;
 import org.flagd.hub.config.server.configuration.security.JwtUtil;
 import org.flagd.hub.rest.api.AuthApi;
 import org.flagd.hub.rest.model.Login200Response;
@@ -14,10 +15,14 @@ import org.springframework.stereotype.Controller;
 @Controller
 public class AuthController implements AuthApi {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationManager authenticationManager;
+    private final JwtTokenCache jwtTokenCache;
 
-    public AuthController(AuthenticationManager authenticationManager, PasswordEncoder passwordEncoder) {
+    public AuthController(AuthenticationManager authenticationManager, PasswordEncoder passwordEncoder, JwtTokenCache jwtTokenCache) {
         this.authenticationManager = authenticationManager;
+        this.jwtTokenCache = jwtTokenCache;
     }
 
     @Override
@@ -35,4 +40,12 @@ public class AuthController implements AuthApi {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
+
+    @Override
+    public ResponseEntity<Void> logout(String authorization) {
+        // the security filter only lets valid, unrevoked bearer tokens through
+        jwtTokenCache.revoke(authorization.substring(BEARER_PREFIX.length()));
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,52 @@
+package org.flagd.hub.config.server.controllers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.services.FlagExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams the flags as a flagd configuration file. It is not part of the generated API because
+ * a streamed body cannot be declared in the OpenAPI schema.
+ */
+@Log4j2
+@RestController
+@RequestMapping("/flagd-hub")
+@RequiredArgsConstructor
+public class FlagExportController {
+    private final FlagExportService flagExportService;
+
+    /**
+     * Export the flags in flagd format
+     * @param format json or yaml, json when omitted
+     * @param area only export the flags of this area
+     * @return the flagd configuration, streamed as it is read from the storage
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportFlags(@RequestParam(required = false) String format,
+                                                             @RequestParam(required = false) String area) {
+        FlagExportService.Format exportFormat;
+        try {
+            exportFormat = FlagExportService.Format.of(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid export format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("flags." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(output -> flagExportService.export(output, exportFormat, area == null || area.isEmpty() ? null : area));
+    }
+}
@@ -1,20 +1,62 @@
 package org.flagd.hub.config.server.controllers;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.services.ContentEncoding;
 import org.flagd.hub.config.server.services.FlagdConfigurationService;
+import org.flagd.hub.config.server.services.FlagdConfigurationSnapshot;
+import org.flagd.hub.config.server.services.SyncRequestCounters;
 import org.flagd.hub.rest.api.FlagdConfigurationApi;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 
 @Log4j2
 @Controller
-@RequiredArgsConstructor
 public class FlagdConfigurationController implements FlagdConfigurationApi {
     private final FlagdConfigurationService flagdConfigurationService;
+    private final SyncRequestCounters syncRequestCounters;
+
+    public FlagdConfigurationController(FlagdConfigurationService flagdConfigurationService, MeterRegistry meterRegistry) {
+        this.flagdConfigurationService = flagdConfigurationService;
+        this.syncRequestCounters = new SyncRequestCounters(meterRegistry, "http");
+    }
+
     @Override
-    public ResponseEntity<Object> getFlagdConfiguration() {
-        log.info("get flagd configuration");
-        return ResponseEntity.ok(flagdConfigurationService.getFlagdConfiguration());
+    public ResponseEntity<Object> getFlagdConfiguration(String selector, String ifNoneMatch, String acceptEncoding) {
+        FlagdConfigurationSnapshot snapshot;
+        try {
+            snapshot = flagdConfigurationService.getSnapshot(selector);
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid flagd configuration selector: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        ContentEncoding encoding = ContentEncoding.negotiate(acceptEncoding);
+        if (snapshot.matches(ifNoneMatch)) {
+            log.debug("flagd configuration not modified, revision: {}", snapshot.getRevision());
+            syncRequestCounters.count(false, encoding);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag(encoding))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        log.info("get flagd configuration, selector: {}, revision: {}, encoding: {}", selector, snapshot.getRevision(), encoding.getToken());
+        syncRequestCounters.count(true, encoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.getEtag(encoding))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+
+        return response.body(snapshot.getContent(encoding));
     }
+
 }
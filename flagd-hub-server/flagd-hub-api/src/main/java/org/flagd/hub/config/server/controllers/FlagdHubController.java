@@ -2,9 +2,17 @@ package org.flagd.hub.config.server.controllers;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.flagd.hub.config.server.repositories.changelog.ChangelogEvents;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
 import org.flagd.hub.config.server.services.FeatureFlagsService;
+import org.flagd.hub.config.server.services.FlagSearchService;
 import org.flagd.hub.rest.api.FlagsHubApi;
+import org.flagd.hub.rest.model.BulkFlagOperation;
+import org.flagd.hub.rest.model.BulkFlagOperationResult;
+import org.flagd.hub.rest.model.BulkFlagOperationsRequest;
+import org.flagd.hub.rest.model.BulkFlagOperationsResponse;
 import org.flagd.hub.rest.model.ChangeDefaultVariantRequest;
 import org.flagd.hub.rest.model.ChangelogEvent;
 import org.flagd.hub.rest.model.FeatureFlag;
@@ -12,28 +20,70 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Log4j2
 @Controller
 @RequiredArgsConstructor
 public class FlagdHubController implements FlagsHubApi {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_CHANGELOG_PAGE_SIZE = 1000;
+    private static final int MAX_FLAG_PAGE_SIZE = 1000;
+    private static final int DEFAULT_SEARCH_RESULTS = 20;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_BULK_OPERATIONS = 1000;
+
     private final FeatureFlagsService featureFlagsService;
+    private final FlagSearchService flagSearchService;
 
     @Override
-    public ResponseEntity<List<FeatureFlag>> getFlags() {
-        return ResponseEntity.ok(featureFlagsService.getAllFlags());
+    public ResponseEntity<List<FeatureFlag>> getFlags(String area, String type, Boolean wasChanged, String keyPrefix,
+                                                      String order, Integer limit, String cursor) {
+        if (area == null && type == null && wasChanged == null && keyPrefix == null && order == null
+                && limit == null && cursor == null) {
+            return ResponseEntity.ok(featureFlagsService.getAllFlags());
+        }
+
+        if (limit != null && (limit < 1 || limit > MAX_FLAG_PAGE_SIZE)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (order != null && !order.equals("asc") && !order.equals("desc")) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        FlagPage page;
+        try {
+            FeatureFlag.TypeEnum flagType = type == null ? null : FeatureFlag.TypeEnum.fromValue(type);
+            page = featureFlagsService.findFlags(new FlagQuery(area, flagType, wasChanged,
+                    keyPrefix == null || keyPrefix.isEmpty() ? null : keyPrefix, "desc".equals(order), cursor, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid flag query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.flags());
     }
 
     @Override
-    public ResponseEntity<Map<String, ChangelogEvent>> getFlagsChangelogs() {
-        Map<String, ChangelogEvent> changeLogs = featureFlagsService.getChangeLogs().stream()
-                .collect(Collectors.toMap(ChangelogEvents::getFlagKey,
-                        (ChangelogEvents changelogEvents) -> changelogEvents.getChangelogEventsList().get(0)));
+    public ResponseEntity<List<FeatureFlag>> searchFlags(String q, Integer limit) {
+        if (q == null || q.isBlank() || (limit != null && (limit < 1 || limit > MAX_SEARCH_RESULTS))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(flagSearchService.search(q, limit == null ? DEFAULT_SEARCH_RESULTS : limit));
+    }
 
-        return ResponseEntity.ok(changeLogs);
+    @Override
+    public ResponseEntity<Map<String, ChangelogEvent>> getFlagsChangelogs() {
+        return ResponseEntity.ok(featureFlagsService.getLatestChangelogEvents());
     }
 
     @Override
@@ -44,32 +94,34 @@ public class FlagdHubController implements FlagsHubApi {
     }
 
     @Override
-    public ResponseEntity<List<ChangelogEvent>> getFlagChangelog(String flagKey) {
-        return ResponseEntity.ok(featureFlagsService.getEvents(flagKey));
-    }
-
-    @Override
-    public ResponseEntity<Void> createFlag(FeatureFlag featureFlag) {
-        // Validate that all required fields are present
-        if (featureFlag.getKey() == null || featureFlag.getKey().isEmpty()) {
+    public ResponseEntity<List<ChangelogEvent>> getFlagChangelog(String flagKey, Integer limit, String cursor, Long from, Long to) {
+        if (limit != null && (limit < 1 || limit > MAX_CHANGELOG_PAGE_SIZE)) {
             return ResponseEntity.badRequest().build();
         }
 
-        if (featureFlag.getType() == null) {
+        if (from != null && to != null && from > to) {
             return ResponseEntity.badRequest().build();
         }
 
-        if (featureFlag.getDefaultVariant() == null || featureFlag.getDefaultVariant().isEmpty()) {
+        ChangelogPage page;
+        try {
+            page = featureFlagsService.getEvents(flagKey, from, to, cursor, limit);
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid changelog cursor for flag '{}': {}", flagKey, cursor);
             return ResponseEntity.badRequest().build();
         }
 
-        // Validate that variants map is not empty
-        if (featureFlag.getVariants() == null || featureFlag.getVariants().isEmpty()) {
-            return ResponseEntity.badRequest().build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
         }
 
-        // Validate that default variant exists in variants map
-        if (!featureFlag.getVariants().containsKey(featureFlag.getDefaultVariant())) {
+        return response.body(page.events());
+    }
+
+    @Override
+    public ResponseEntity<Void> createFlag(FeatureFlag featureFlag) {
+        if (validateFlag(featureFlag) != null) {
             return ResponseEntity.badRequest().build();
         }
 
@@ -78,6 +130,42 @@ public class FlagdHubController implements FlagsHubApi {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @Override
+    public ResponseEntity<BulkFlagOperationsResponse> applyFlagOperations(BulkFlagOperationsRequest request) {
+        List<BulkFlagOperation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty() || operations.size() > MAX_BULK_OPERATIONS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // validate everything first so only valid operations reach redis, in a single batch
+        List<BulkFlagOperationResult> results = new ArrayList<>(operations.size());
+        List<BulkFlagOperation> validOperations = new ArrayList<>();
+        List<BulkFlagOperationResult> validResults = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BulkFlagOperation operation = operations.get(i);
+            String validationError = validateOperation(operation);
+            String flagKey = operation.getFlagKey() == null && operation.getFlag() != null
+                    ? operation.getFlag().getKey() : operation.getFlagKey();
+            BulkFlagOperationResult result = new BulkFlagOperationResult().index(i).flagKey(flagKey);
+            if (validationError != null) {
+                result.status(BulkFlagOperationResult.StatusEnum.INVALID).message(validationError);
+            } else {
+                validOperations.add(operation);
+                validResults.add(result);
+            }
+            results.add(result);
+        }
+
+        if (!validOperations.isEmpty()) {
+            List<Boolean> applied = featureFlagsService.applyFlagOperations(validOperations);
+            for (int i = 0; i < validOperations.size(); i++) {
+                setAppliedStatus(validResults.get(i), validOperations.get(i).getAction(), applied.get(i));
+            }
+        }
+
+        return ResponseEntity.ok(new BulkFlagOperationsResponse().results(results));
+    }
+
     @Override
     public ResponseEntity<Void> updateFlagValue(String flagKey, ChangeDefaultVariantRequest request) {
         boolean isSuccess = featureFlagsService.updateFlagDefaultVariant(flagKey, request.getDefaultVariant());
@@ -91,12 +179,90 @@ public class FlagdHubController implements FlagsHubApi {
 
     @Override
     public ResponseEntity<Void> deleteFlag(String flagKey) {
-        // Check if flag exists before attempting to delete
-        if (featureFlagsService.getFlagByKey(flagKey).isEmpty()) {
+        if (!featureFlagsService.deleteFlag(flagKey)) {
             return ResponseEntity.notFound().build();
         }
 
-        featureFlagsService.deleteFlag(flagKey);
         return ResponseEntity.accepted().build();
     }
+
+    /**
+     * @return why the flag cannot be stored, or null if it is valid
+     */
+    private static String validateFlag(FeatureFlag featureFlag) {
+        if (featureFlag.getKey() == null || featureFlag.getKey().isEmpty()) {
+            return "key is required";
+        }
+
+        if (featureFlag.getType() == null) {
+            return "type is required";
+        }
+
+        if (featureFlag.getDefaultVariant() == null || featureFlag.getDefaultVariant().isEmpty()) {
+            return "defaultVariant is required";
+        }
+
+        // Validate that variants map is not empty
+        if (featureFlag.getVariants() == null || featureFlag.getVariants().isEmpty()) {
+            return "variants must not be empty";
+        }
+
+        // Validate that default variant exists in variants map
+        if (!featureFlag.getVariants().containsKey(featureFlag.getDefaultVariant())) {
+            return "defaultVariant must be one of the variants";
+        }
+
+        try {
+            FlagNormalizer.normalize(featureFlag);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+
+        return null;
+    }
+
+    private static String validateOperation(BulkFlagOperation operation) {
+        if (operation.getAction() == null) {
+            return "action is required";
+        }
+
+        return switch (operation.getAction()) {
+            case CREATE -> {
+                if (operation.getFlag() == null) {
+                    yield "flag is required";
+                }
+                if (operation.getFlagKey() != null && !operation.getFlagKey().equals(operation.getFlag().getKey())) {
+                    yield "flagKey does not match the flag key";
+                }
+                yield validateFlag(operation.getFlag());
+            }
+            case UPDATE -> {
+                if (operation.getFlagKey() == null || operation.getFlagKey().isEmpty()) {
+                    yield "flagKey is required";
+                }
+                yield operation.getDefaultVariant() == null || operation.getDefaultVariant().isEmpty() ? "defaultVariant is required" : null;
+            }
+            case DELETE -> operation.getFlagKey() == null || operation.getFlagKey().isEmpty() ? "flagKey is required" : null;
+        };
+    }
+
+    private static void setAppliedStatus(BulkFlagOperationResult result, BulkFlagOperation.ActionEnum action, boolean applied) {
+        switch (action) {
+            case CREATE -> result.status(BulkFlagOperationResult.StatusEnum.CREATED);
+            case UPDATE -> {
+                if (applied) {
+                    result.status(BulkFlagOperationResult.StatusEnum.UPDATED);
+                } else {
+                    result.status(BulkFlagOperationResult.StatusEnum.CONFLICT).message("flag or variant does not exist");
+                }
+            }
+            case DELETE -> {
+                if (applied) {
+                    result.status(BulkFlagOperationResult.StatusEnum.DELETED);
+                } else {
+                    result.status(BulkFlagOperationResult.StatusEnum.NOT_FOUND).message("flag does not exist");
+                }
+            }
+        }
+    }
 }
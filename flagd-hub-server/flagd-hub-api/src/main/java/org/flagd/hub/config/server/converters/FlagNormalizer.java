@@ -0,0 +1,175 @@
+package org.flagd.hub.config.server.converters;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Validates flags when they are written and brings variants and targeting into their canonical form:
+ * boolean, integer, double and object variants become the JSON literal of their value and targeting
+ * becomes compact JSON text. {@link FlagdConfigurationConverter} then writes them as they are,
+ * so serving a flag never parses it again.
+ */
+@UtilityClass
+public class FlagNormalizer {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * @return a normalized copy of the flag
+     * @throws IllegalArgumentException if a variant does not match the flag type or the targeting is not a JSON object
+     */
+    public static FeatureFlag normalize(FeatureFlag flag) {
+        if (flag.getType() == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+
+        Map<String, String> variants = null;
+        if (flag.getVariants() != null) {
+            variants = new LinkedHashMap<>();
+            for (Map.Entry<String, String> variant : flag.getVariants().entrySet()) {
+                variants.put(variant.getKey(), normalizeVariant(flag.getType(), variant.getKey(), variant.getValue()));
+            }
+        }
+
+        return copy(flag, variants, normalizeTargeting(flag.getTargeting()));
+    }
+
+    /**
+     * Normalizes a flag stored before flags were validated. Malformed variants get the zero value of the
+     * flag type, like the default {@code false} and {@code {}} they used to be served as, and malformed
+     * targeting is dropped.
+     * @param repairs receives a description of every value that was replaced
+     * @return a normalized copy of the flag
+     * @throws IllegalArgumentException if the flag has no type
+     */
+    public static FeatureFlag repair(FeatureFlag flag, Consumer<String> repairs) {
+        if (flag.getType() == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+
+        Map<String, String> variants = null;
+        if (flag.getVariants() != null) {
+            variants = new LinkedHashMap<>();
+            for (Map.Entry<String, String> variant : flag.getVariants().entrySet()) {
+                try {
+                    variants.put(variant.getKey(), normalizeVariant(flag.getType(), variant.getKey(), variant.getValue()));
+                } catch (IllegalArgumentException e) {
+                    String zeroValue = zeroValue(flag.getType());
+                    repairs.accept(e.getMessage() + ", replaced with " + zeroValue);
+                    variants.put(variant.getKey(), zeroValue);
+                }
+            }
+        }
+
+        String targeting;
+        try {
+            targeting = normalizeTargeting(flag.getTargeting());
+        } catch (IllegalArgumentException e) {
+            repairs.accept(e.getMessage() + ", dropped targeting: " + flag.getTargeting());
+            targeting = null;
+        }
+
+        return copy(flag, variants, targeting);
+    }
+
+    private static FeatureFlag copy(FeatureFlag flag, Map<String, String> variants, String targeting) {
+        return new FeatureFlag()
+                .key(flag.getKey())
+                .name(flag.getName())
+                .area(flag.getArea())
+                .description(flag.getDescription())
+                .type(flag.getType())
+                .variants(variants)
+                .defaultVariant(flag.getDefaultVariant())
+                .targeting(targeting)
+                .creationTime(flag.getCreationTime())
+                .wasChanged(flag.getWasChanged());
+    }
+
+    private static String normalizeVariant(FeatureFlag.TypeEnum type, String name, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("variant '" + name + "' has no value");
+        }
+
+        String trimmed = value.trim();
+        try {
+            return switch (type) {
+                case STRING -> value;
+                case BOOLEAN -> {
+                    String lowerCase = trimmed.toLowerCase(Locale.ROOT);
+                    if (!lowerCase.equals("true") && !lowerCase.equals("false")) {
+                        throw new IllegalArgumentException("variant '" + name + "' is not a boolean: " + value);
+                    }
+                    yield lowerCase;
+                }
+                case INTEGER -> Integer.toString(Integer.parseInt(trimmed));
+                case DOUBLE -> {
+                    double number = Double.parseDouble(trimmed);
+                    if (!Double.isFinite(number)) {
+                        throw new IllegalArgumentException("variant '" + name + "' is not a finite number: " + value);
+                    }
+                    yield Double.toString(number);
+                }
+                case OBJECT -> {
+                    JsonNode node = OBJECT_MAPPER.readTree(trimmed);
+                    if (node == null || !node.isContainerNode()) {
+                        throw new IllegalArgumentException("variant '" + name + "' is not a JSON object or array: " + value);
+                    }
+                    yield OBJECT_MAPPER.writeValueAsString(node);
+                }
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("variant '" + name + "' is not a valid " + type.getValue() + ": " + value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("variant '" + name + "' is not valid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String zeroValue(FeatureFlag.TypeEnum type) {
+        return switch (type) {
+            case BOOLEAN -> "false";
+            case STRING -> "";
+            case INTEGER -> "0";
+            case DOUBLE -> "0.0";
+            case OBJECT -> "{}";
+        };
+    }
+
+    /**
+     * Targeting is stored as text, but clients may also send it as a JSON object.
+     * @return compact JSON text, or null without targeting
+     */
+    private static String normalizeTargeting(Object targeting) {
+        if (targeting == null || targeting instanceof String text && text.isBlank()) {
+            return null;
+        }
+
+        JsonNode node;
+        if (targeting instanceof String text) {
+            try {
+                // line breaks used to be stripped before parsing, which also allowed them inside strings
+                node = OBJECT_MAPPER.readTree(text.replace("\n", ""));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("targeting is not valid JSON: " + e.getOriginalMessage());
+            }
+        } else {
+            node = OBJECT_MAPPER.valueToTree(targeting);
+        }
+
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("targeting must be a JSON object");
+        }
+        if (node.isEmpty()) {
+            return null;
+        }
+
+        return node.toString();
+    }
+}
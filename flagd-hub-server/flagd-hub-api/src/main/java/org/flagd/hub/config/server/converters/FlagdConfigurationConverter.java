@@ -1,89 +1,126 @@
 package org.flagd.hub.config.server.converters;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import lombok.experimental.UtilityClass;
 import lombok.extern.log4j.Log4j2;
 import org.flagd.hub.rest.model.FeatureFlag;
-import org.springframework.util.StringUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts flags to the flagd configuration format. Every flag converts to its own fragment, the
+ * {@code "key":{...}} member of the {@code flags} object, so a configuration can be reassembled
+ * from cached fragments without converting unchanged flags again.
+ */
 @Log4j2
 @UtilityClass
 public class FlagdConfigurationConverter {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final String FLAGS_FIELD = "flags";
+    private static final byte[] DOCUMENT_START = "{\"flags\":{".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DOCUMENT_END = "}}".getBytes(StandardCharsets.UTF_8);
     private static final String STATE_FIELD = "state";
     private static final String DEFAULT_VARIANT_FIELD = "defaultVariant";
     private static final String VARIANTS_FIELD = "variants";
     private static final String TARGETING_FIELD = "targeting";
 
-    public static ObjectNode convertToFlagdFormat(List<FeatureFlag> flags) {
-        ObjectNode configuration = OBJECT_MAPPER.createObjectNode();
-        ObjectNode flagsNode = OBJECT_MAPPER.createObjectNode();
-
-        flags.forEach((FeatureFlag featureFlag) ->{
-                try{
-                    flagsNode.set(featureFlag.getKey(), convertFlagToFlagdFormat(featureFlag));
-                }
-                catch (Exception e){
-                    log.error("Error converting feature flag: {} - {}", featureFlag.getKey(), e.getMessage(), e);
-                }
-                });
-
-        configuration.set(FLAGS_FIELD, flagsNode);
-
-        return configuration;
+    public static byte[] convertToFlagdFormat(List<FeatureFlag> flags) {
+        return assemble(flags.stream()
+                .map(FlagdConfigurationConverter::convertToFragment)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
-    private static ObjectNode convertFlagToFlagdFormat(FeatureFlag featureFlag) throws JsonProcessingException {
-        ObjectNode flagdFlag = OBJECT_MAPPER.createObjectNode();
-
-        flagdFlag.put(STATE_FIELD, "ENABLED");
-        flagdFlag.put(DEFAULT_VARIANT_FIELD, featureFlag.getDefaultVariant());
-        flagdFlag.set(VARIANTS_FIELD, getVariantsNode(featureFlag));
+    /**
+     * @return the fragments joined into a flagd configuration document, in iteration order
+     */
+    public static byte[] assemble(Collection<byte[]> fragments) {
+        int length = DOCUMENT_START.length + DOCUMENT_END.length + Math.max(0, fragments.size() - 1);
+        for (byte[] fragment : fragments) {
+            length += fragment.length;
+        }
 
-        if (StringUtils.hasText((String) featureFlag.getTargeting())) {
-                ObjectNode targetingNode = getTargetingNode(featureFlag);
-                flagdFlag.set(TARGETING_FIELD, targetingNode);
+        byte[] document = new byte[length];
+        System.arraycopy(DOCUMENT_START, 0, document, 0, DOCUMENT_START.length);
+        int position = DOCUMENT_START.length;
+        for (byte[] fragment : fragments) {
+            if (position > DOCUMENT_START.length) {
+                document[position++] = ',';
+            }
+            System.arraycopy(fragment, 0, document, position, fragment.length);
+            position += fragment.length;
         }
+        System.arraycopy(DOCUMENT_END, 0, document, position, DOCUMENT_END.length);
 
-        return flagdFlag;
+        return document;
     }
 
-    private static ObjectNode getTargetingNode(FeatureFlag featureFlag) throws JsonProcessingException {
-        String targetingJson = ((String) featureFlag.getTargeting()).replaceAll("\n", "");
-
-        return (ObjectNode) OBJECT_MAPPER.readTree(targetingJson);
+    /**
+     * @return the {@code "key":{...}} member of the flag, or null if the flag cannot be converted
+     */
+    public static byte[] convertToFragment(FeatureFlag featureFlag) {
+        try {
+            ByteArrayOutputStream fragment = new ByteArrayOutputStream(256);
+            fragment.write(OBJECT_MAPPER.writeValueAsBytes(featureFlag.getKey()));
+            fragment.write(':');
+            try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(fragment)) {
+                writeFlag(generator, featureFlag);
+            }
+
+            return fragment.toByteArray();
+        } catch (Exception e) {
+            log.error("Error converting feature flag: {} - {}", featureFlag.getKey(), e.getMessage(), e);
+            return null;
+        }
     }
 
-    private static ObjectNode getVariantsNode(FeatureFlag featureFlag) {
-        ObjectNode variantsNode = OBJECT_MAPPER.createObjectNode();
-
-        switch (featureFlag.getType()) {
-            case BOOLEAN -> featureFlag.getVariants().forEach((String key, String value) ->
-                    variantsNode.put(key, Boolean.parseBoolean(value)));
-            case STRING -> featureFlag.getVariants().forEach(variantsNode::put);
-            case INTEGER -> featureFlag.getVariants().forEach((String key, String value) ->
-                    variantsNode.put(key, Integer.parseInt(value)));
-            case DOUBLE -> featureFlag.getVariants().forEach((String key, String value) ->
-                    variantsNode.put(key, Double.parseDouble(value)));
-            case OBJECT -> featureFlag.getVariants().forEach((String key, String value) ->
-                    variantsNode.set(key, getObjectValue(value)));
+    /**
+     * Writes the flag as the value of its member of the {@code flags} object. YAML generators get the targeting
+     * and JSON variants as parsed trees instead of raw JSON.
+     */
+    public static void writeFlag(JsonGenerator generator, FeatureFlag featureFlag) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(STATE_FIELD, "ENABLED");
+        generator.writeStringField(DEFAULT_VARIANT_FIELD, featureFlag.getDefaultVariant());
+        generator.writeFieldName(VARIANTS_FIELD);
+        writeVariants(generator, featureFlag);
+
+        if (featureFlag.getTargeting() instanceof String targeting && !targeting.isEmpty()) {
+            generator.writeFieldName(TARGETING_FIELD);
+            writeJsonValue(generator, targeting);
         }
+        generator.writeEndObject();
+    }
 
-        return variantsNode;
+    /**
+     * Variants were normalized by {@link FlagNormalizer} when the flag was written,
+     * so all but string variants already are JSON literals.
+     */
+    private static void writeVariants(JsonGenerator generator, FeatureFlag featureFlag) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, String> variant : featureFlag.getVariants().entrySet()) {
+            generator.writeFieldName(variant.getKey());
+            if (featureFlag.getType() == FeatureFlag.TypeEnum.STRING) {
+                generator.writeString(variant.getValue());
+            } else {
+                writeJsonValue(generator, variant.getValue());
+            }
+        }
+        generator.writeEndObject();
     }
 
-    private static JsonNode getObjectValue(String value) {
-        try {
-            return OBJECT_MAPPER.readTree(value);
-        } catch (IOException e) {
-            return OBJECT_MAPPER.createObjectNode();
+    private static void writeJsonValue(JsonGenerator generator, String json) throws IOException {
+        if (generator instanceof YAMLGenerator) {
+            OBJECT_MAPPER.writeTree(generator, OBJECT_MAPPER.readTree(json));
+        } else {
+            generator.writeRawValue(json);
         }
     }
 }
@@ -0,0 +1,10 @@
+package org.flagd.hub.config.server.events;
+
+import org.flagd.hub.config.server.services.FlagdConfigurationSnapshot;
+
+/**
+ * Published after the flagd configuration snapshot was rebuilt with different content.
+ * @param snapshot the new snapshot
+ */
+public record FlagdConfigurationChangedEvent(FlagdConfigurationSnapshot snapshot) {
+}
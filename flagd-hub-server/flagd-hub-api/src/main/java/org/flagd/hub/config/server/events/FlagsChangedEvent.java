@@ -0,0 +1,13 @@
+package org.flagd.hub.config.server.events;
+
+import java.util.Set;
+
+/**
+ * Published after one or more feature flags were created, updated or deleted.
+ * @param flagKeys the keys of the flags that changed
+ */
+public record FlagsChangedEvent(Set<String> flagKeys) {
+    public static FlagsChangedEvent of(String flagKey) {
+        return new FlagsChangedEvent(Set.of(flagKey));
+    }
+}
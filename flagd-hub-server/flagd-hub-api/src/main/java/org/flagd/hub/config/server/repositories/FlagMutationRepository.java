@@ -0,0 +1,178 @@
+package org.flagd.hub.config.server.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.flagd.hub.config.server.repositories.changelog.ChangeLogRepository;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.config.server.repositories.featureflags.FlagIndexRepository;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs every flag mutation as a single Lua script, so a write is one round-trip and
+ * the flag hash, its changelog stream, the changelog indexes and the flag indexes always change together.
+ * Flags are flattened with the same {@link RedisConverter} the repositories use.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class FlagMutationRepository {
+    private static final RedisScript<Long> CREATE_FLAG_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/create-flag.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> UPDATE_DEFAULT_VARIANT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/update-default-variant.lua"), List.class);
+    private static final RedisScript<Long> DELETE_FLAG_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/delete-flag.lua"), Long.class);
+    private static final List<RedisScript<?>> SCRIPTS =
+            List.of(CREATE_FLAG_SCRIPT, UPDATE_DEFAULT_VARIANT_SCRIPT, DELETE_FLAG_SCRIPT);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConverter redisConverter;
+
+    /**
+     * Stores the flag, replacing any previous flag with the same key.
+     */
+    public void create(FeatureFlagEntity featureFlagEntity) {
+        execute(toScriptCall(new FlagMutation.Create(featureFlagEntity.getValue())));
+    }
+
+    /**
+     * Sets the default variant and records the change in the flag changelog.
+     * @return the recorded changelog event, or empty if the flag or the variant does not exist
+     */
+    public Optional<ChangelogEvent> updateDefaultVariant(String flagKey, String newDefaultVariant) {
+        List<?> result = (List<?>) execute(toScriptCall(new FlagMutation.UpdateDefaultVariant(flagKey, newDefaultVariant)));
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ChangelogEvent()
+                .previousVariant((String) result.get(1))
+                .updatedVariant(newDefaultVariant)
+                .timestamp(RecordId.of((String) result.get(0)).getTimestamp()));
+    }
+
+    /**
+     * Deletes the flag together with its changelog.
+     * @return true if the flag existed
+     */
+    public boolean delete(String flagKey) {
+        return isApplied(execute(toScriptCall(new FlagMutation.Delete(flagKey))));
+    }
+
+    /**
+     * Applies the mutations in order, sending each batch of {@link RedisBulkLoader#BATCH_SIZE}
+     * scripts in a single pipeline. Every mutation is still atomic on its own.
+     * @return for every mutation whether it was applied, see the single-mutation methods
+     */
+    public List<Boolean> applyAll(List<FlagMutation> mutations) {
+        List<Boolean> applied = new ArrayList<>(mutations.size());
+        for (int from = 0; from < mutations.size(); from += RedisBulkLoader.BATCH_SIZE) {
+            List<ScriptCall> scriptCalls = mutations.subList(from, Math.min(from + RedisBulkLoader.BATCH_SIZE, mutations.size()))
+                    .stream()
+                    .map(this::toScriptCall)
+                    .toList();
+
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                // loading is idempotent and guarantees the EVALSHA calls that follow never hit NOSCRIPT
+                SCRIPTS.forEach(script -> connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+                scriptCalls.forEach(scriptCall -> connection.scriptingCommands().evalSha(
+                        scriptCall.script().getSha1(),
+                        ReturnType.fromJavaType(scriptCall.script().getResultType()),
+                        scriptCall.keys().size(),
+                        scriptCall.rawKeysAndArgs()));
+                return null;
+            });
+
+            results.subList(SCRIPTS.size(), results.size()).forEach(result -> applied.add(isApplied(result)));
+        }
+
+        return applied;
+    }
+
+    private Object execute(ScriptCall scriptCall) {
+        return stringRedisTemplate.execute(scriptCall.script(), scriptCall.keys(), scriptCall.args().toArray());
+    }
+
+    private ScriptCall toScriptCall(FlagMutation mutation) {
+        String flagKey = mutation.flagKey();
+        if (mutation instanceof FlagMutation.Create create) {
+            RedisData redisData = new RedisData();
+            redisConverter.write(new FeatureFlagEntity(flagKey, create.flag()), redisData);
+
+            List<String> args = new ArrayList<>();
+            args.add(flagKey);
+            args.add(FlagIndexRepository.AREA_INDEX_KEY_PREFIX);
+            args.add(FlagIndexRepository.TYPE_INDEX_KEY_PREFIX);
+            redisData.getBucket().rawMap().forEach((field, value) -> {
+                args.add(new String(field, StandardCharsets.UTF_8));
+                args.add(new String(value, StandardCharsets.UTF_8));
+            });
+
+            return new ScriptCall(CREATE_FLAG_SCRIPT, List.of(flagHashKey(flagKey), keyspace(),
+                    FlagIndexRepository.SORTED_KEYS_INDEX_KEY, FlagIndexRepository.CHANGED_INDEX_KEY,
+                    FlagIndexRepository.UNCHANGED_INDEX_KEY), args);
+        }
+
+        if (mutation instanceof FlagMutation.UpdateDefaultVariant update) {
+            return new ScriptCall(UPDATE_DEFAULT_VARIANT_SCRIPT,
+                    List.of(flagHashKey(flagKey), ChangeLogRepository.streamKey(flagKey),
+                            ChangeLogRepository.STREAMS_INDEX_KEY, ChangeLogRepository.LATEST_EVENTS_KEY,
+                            FlagIndexRepository.CHANGED_INDEX_KEY, FlagIndexRepository.UNCHANGED_INDEX_KEY),
+                    List.of(flagKey, update.defaultVariant()));
+        }
+
+        return new ScriptCall(DELETE_FLAG_SCRIPT,
+                List.of(flagHashKey(flagKey), keyspace(), ChangeLogRepository.streamKey(flagKey),
+                        ChangeLogRepository.STREAMS_INDEX_KEY, ChangeLogRepository.LATEST_EVENTS_KEY,
+                        FlagIndexRepository.SORTED_KEYS_INDEX_KEY, FlagIndexRepository.CHANGED_INDEX_KEY,
+                        FlagIndexRepository.UNCHANGED_INDEX_KEY),
+                List.of(flagKey, FlagIndexRepository.AREA_INDEX_KEY_PREFIX, FlagIndexRepository.TYPE_INDEX_KEY_PREFIX));
+    }
+
+    private static boolean isApplied(Object result) {
+        if (result instanceof List<?> list) {
+            return !list.isEmpty();
+        }
+
+        return result instanceof Long count && count > 0;
+    }
+
+    private String keyspace() {
+        return redisConverter.getMappingContext().getRequiredPersistentEntity(FeatureFlagEntity.class).getKeySpace();
+    }
+
+    private String flagHashKey(String id) {
+        return keyspace() + ":" + id;
+    }
+
+    private record ScriptCall(RedisScript<?> script, List<String> keys, List<String> args) {
+        byte[][] rawKeysAndArgs() {
+            byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+            for (int i = 0; i < keys.size(); i++) {
+                keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+            }
+            for (int i = 0; i < args.size(); i++) {
+                keysAndArgs[keys.size() + i] = args.get(i).getBytes(StandardCharsets.UTF_8);
+            }
+
+            return keysAndArgs;
+        }
+    }
+}
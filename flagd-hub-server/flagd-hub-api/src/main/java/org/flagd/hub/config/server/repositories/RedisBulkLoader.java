@@ -0,0 +1,127 @@
+package org.flagd.hub.config.server.repositories;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.data.redis.core.convert.RedisData;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads every {@code @RedisHash} entity of a keyspace with pipelined HGETALL batches instead of
+ * the one round-trip per entity that {@code CrudRepository.findAll()} performs.
+ * Entities are decoded with the same {@link RedisConverter} the repositories use.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisBulkLoader {
+    static final int BATCH_SIZE = 1000;
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisConverter redisConverter;
+
+    public <T> List<T> findAll(Class<T> type) {
+        String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+        long startTime = System.nanoTime();
+
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Set<byte[]> rawIds = connection.setCommands().sMembers(keyspace.getBytes(StandardCharsets.UTF_8));
+            if (rawIds == null || rawIds.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            List<String> ids = rawIds.stream()
+                    .map(rawId -> new String(rawId, StandardCharsets.UTF_8))
+                    .toList();
+            List<T> entities = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                loadBatch(connection, keyspace, ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())), type, entities);
+            }
+
+            log.debug("loaded {} entities of keyspace '{}' in {} ms",
+                    entities.size(), keyspace, (System.nanoTime() - startTime) / 1_000_000);
+            return entities;
+        }
+    }
+
+    /**
+     * Loads the entities with the given ids in the order of the ids, skipping the ones that do not exist.
+     */
+    public <T> List<T> findAllById(Class<T> type, List<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String keyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace();
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            List<T> entities = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                loadBatch(connection, keyspace, ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())), type, entities);
+            }
+
+            return entities;
+        }
+    }
+
+    /**
+     * Checks which of the ids already exist in the keyspace of the entity type with one pipelined batch of SISMEMBER calls.
+     */
+    public Set<String> findExistingIds(Class<?> type, List<String> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        byte[] rawKeyspace = redisConverter.getMappingContext().getRequiredPersistentEntity(type).getKeySpace()
+                .getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            ids.forEach(id -> connection.setCommands().sIsMember(rawKeyspace, id.getBytes(StandardCharsets.UTF_8)));
+            List<Object> results = connection.closePipeline();
+
+            Set<String> existingIds = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i))) {
+                    existingIds.add(ids.get(i));
+                }
+            }
+
+            return existingIds;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void loadBatch(RedisConnection connection, String keyspace, List<String> ids, Class<T> type, List<T> entities) {
+        connection.openPipeline();
+        ids.forEach(id -> connection.hashCommands().hGetAll(toKey(keyspace, id)));
+        List<Object> results = connection.closePipeline();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Map<byte[], byte[]> raw = (Map<byte[], byte[]>) results.get(i);
+            if (raw == null || raw.isEmpty()) {
+                // removed between SMEMBERS and HGETALL
+                continue;
+            }
+
+            RedisData redisData = new RedisData(raw);
+            redisData.setId(ids.get(i));
+            redisData.setKeyspace(keyspace);
+            entities.add(redisConverter.read(type, redisData));
+        }
+    }
+
+    private static byte[] toKey(String keyspace, String id) {
+        return (keyspace + ":" + id).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,8 +1,270 @@
 package org.flagd.hub.config.server.repositories.changelog;
 
-import org.springframework.data.repository.CrudRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.storage.ChangelogCursor;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores the changelog of every flag in its own append-only Redis Stream.
+ * Appending is a single XADD regardless of history size, and the stream entry id
+ * doubles as the event timestamp. The latest event of every flag is also kept in one
+ * hash so the changelogs overview never reads the streams.
+ */
+@Log4j2
 @Repository
-public interface ChangeLogRepository extends CrudRepository<ChangelogEvents, String> {
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class ChangeLogRepository {
+    static final String STREAM_KEY_PREFIX = "flagChangelog:";
+    public static final String STREAMS_INDEX_KEY = "flagChangelogs";
+    public static final String LATEST_EVENTS_KEY = "flagChangelogLatest";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PREVIOUS_VARIANT_FIELD = "previousVariant";
+    private static final String UPDATED_VARIANT_FIELD = "updatedVariant";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ChangelogEvent append(String flagKey, String previousVariant, String updatedVariant) {
+        RecordId recordId = stringRedisTemplate.opsForStream()
+                .add(StreamRecords.string(toFields(previousVariant, updatedVariant)).withStreamKey(streamKey(flagKey)));
+        stringRedisTemplate.opsForSet().add(STREAMS_INDEX_KEY, flagKey);
+        ChangelogEvent event = toEvent(recordId, previousVariant, updatedVariant);
+        stringRedisTemplate.opsForHash().put(LATEST_EVENTS_KEY, flagKey, writeEvent(event));
+
+        return event;
+    }
+
+    public List<ChangelogEvent> findEvents(String flagKey) {
+        return findEvents(flagKey, null, null, null, null).events();
+    }
+
+    /**
+     * Reads a window of a flag changelog with a single XRANGE, without loading the rest of the history.
+     * @param from inclusive lower timestamp bound, may be null
+     * @param to inclusive upper timestamp bound, may be null
+     * @param cursor cursor of a previous page, takes precedence over from, may be null
+     * @param limit maximum number of events, null for no limit
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ChangelogPage findEvents(String flagKey, Long from, Long to, String cursor, Integer limit) {
+        Range.Bound<String> lowerBound = cursor != null ? Range.Bound.exclusive(ChangelogCursor.decode(cursor).toString())
+                : from != null ? Range.Bound.inclusive(String.valueOf(from)) : Range.Bound.unbounded();
+        Range.Bound<String> upperBound = to != null ? Range.Bound.inclusive(String.valueOf(to)) : Range.Bound.unbounded();
+        Limit count = limit == null ? Limit.unlimited() : Limit.limit().count(limit + 1);
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(streamKey(flagKey), Range.of(lowerBound, upperBound), count);
+        boolean hasMore = limit != null && records.size() > limit;
+        List<MapRecord<String, Object, Object>> page = hasMore ? records.subList(0, limit) : records;
+
+        return new ChangelogPage(
+                page.stream().map(ChangeLogRepository::toEvent).toList(),
+                hasMore ? toCursor(page.get(page.size() - 1).getId()).encode() : null);
+    }
+
+    /**
+     * Loads the changelogs of all flags with one SMEMBERS and a single pipelined batch of XRANGE calls.
+     */
+    public List<ChangelogEvents> findAll() {
+        Set<String> flagKeys = stringRedisTemplate.opsForSet().members(STREAMS_INDEX_KEY);
+        if (flagKeys == null || flagKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> orderedFlagKeys = List.copyOf(flagKeys);
+        List<Object> results = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            orderedFlagKeys.forEach(flagKey -> connection.streamCommands().xRange(rawStreamKey(flagKey), Range.unbounded(), Limit.unlimited()));
+            return connection.closePipeline();
+        });
+
+        List<ChangelogEvents> changelogs = new ArrayList<>(orderedFlagKeys.size());
+        for (int i = 0; i < orderedFlagKeys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<ByteRecord> records = (List<ByteRecord>) results.get(i);
+            if (records == null || records.isEmpty()) {
+                continue;
+            }
+
+            ChangelogEvents changelogEvents = new ChangelogEvents(orderedFlagKeys.get(i));
+            records.forEach(record -> changelogEvents.getChangelogEventsList().add(toEvent(record)));
+            changelogs.add(changelogEvents);
+        }
+
+        return changelogs;
+    }
+
+    /**
+     * Returns the latest event of every flag with a single HGETALL, independent of history length.
+     */
+    public Map<String, ChangelogEvent> findLatestEvents() {
+        Map<String, ChangelogEvent> latestEvents = new HashMap<>();
+        stringRedisTemplate.<String, String>opsForHash().entries(LATEST_EVENTS_KEY)
+                .forEach((flagKey, event) -> latestEvents.put(flagKey, readEvent(event)));
+
+        return latestEvents;
+    }
+
+    public void deleteById(String flagKey) {
+        stringRedisTemplate.delete(streamKey(flagKey));
+        stringRedisTemplate.opsForSet().remove(STREAMS_INDEX_KEY, flagKey);
+        stringRedisTemplate.opsForHash().delete(LATEST_EVENTS_KEY, flagKey);
+    }
+
+    /**
+     * Fills the latest-event index for streams written before it existed,
+     * with one pipelined XREVRANGE per missing flag.
+     * @return number of flags added to the index
+     */
+    int indexMissingLatestEvents() {
+        Set<String> flagKeys = stringRedisTemplate.opsForSet().members(STREAMS_INDEX_KEY);
+        if (flagKeys == null || flagKeys.isEmpty()) {
+            return 0;
+        }
+
+        Set<Object> indexedFlagKeys = stringRedisTemplate.opsForHash().keys(LATEST_EVENTS_KEY);
+        List<String> missingFlagKeys = flagKeys.stream()
+                .filter(flagKey -> !indexedFlagKeys.contains(flagKey))
+                .toList();
+        if (missingFlagKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> results = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            missingFlagKeys.forEach(flagKey -> connection.streamCommands()
+                    .xRevRange(rawStreamKey(flagKey), Range.unbounded(), Limit.limit().count(1)));
+            return connection.closePipeline();
+        });
+
+        Map<String, String> latestEvents = new HashMap<>();
+        for (int i = 0; i < missingFlagKeys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<ByteRecord> records = (List<ByteRecord>) results.get(i);
+            if (records != null && !records.isEmpty()) {
+                latestEvents.put(missingFlagKeys.get(i), writeEvent(toEvent(records.get(0))));
+            }
+        }
+        if (!latestEvents.isEmpty()) {
+            stringRedisTemplate.opsForHash().putAll(LATEST_EVENTS_KEY, latestEvents);
+        }
+
+        return latestEvents.size();
+    }
+
+    /**
+     * Appends events that were recorded elsewhere, keeping their original timestamps as stream ids.
+     * Events must be ordered by timestamp and newer than anything already in the stream.
+     */
+    void appendAll(String flagKey, List<ChangelogEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] rawStreamKey = rawStreamKey(flagKey);
+        byte[] rawFlagKey = flagKey.getBytes(StandardCharsets.UTF_8);
+        byte[] rawLatestEvent = writeEvent(events.get(events.size() - 1)).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            long lastTimestamp = -1;
+            long sequence = 0;
+            for (ChangelogEvent event : events) {
+                // stream ids must be strictly increasing and greater than 0-0
+                long timestamp = Math.max(event.getTimestamp() == null ? 0 : event.getTimestamp(), lastTimestamp);
+                sequence = timestamp == lastTimestamp ? sequence + 1 : (timestamp == 0 ? 1 : 0);
+                lastTimestamp = timestamp;
+                appendRaw(connection, rawStreamKey, RecordId.of(timestamp, sequence), event);
+            }
+            connection.setCommands().sAdd(STREAMS_INDEX_KEY.getBytes(StandardCharsets.UTF_8), rawFlagKey);
+            connection.hashCommands().hSet(LATEST_EVENTS_KEY.getBytes(StandardCharsets.UTF_8), rawFlagKey, rawLatestEvent);
+            return null;
+        });
+    }
+
+    boolean exists(String flagKey) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(streamKey(flagKey)));
+    }
+
+    private static void appendRaw(RedisConnection connection, byte[] rawStreamKey, RecordId recordId, ChangelogEvent event) {
+        Map<byte[], byte[]> fields = new HashMap<>();
+        toFields(event.getPreviousVariant(), event.getUpdatedVariant())
+                .forEach((field, value) -> fields.put(field.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+        connection.streamCommands().xAdd(StreamRecords.rawBytes(fields).withStreamKey(rawStreamKey).withId(recordId));
+    }
+
+    private static Map<String, String> toFields(String previousVariant, String updatedVariant) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(PREVIOUS_VARIANT_FIELD, previousVariant == null ? "" : previousVariant);
+        fields.put(UPDATED_VARIANT_FIELD, updatedVariant == null ? "" : updatedVariant);
+        return fields;
+    }
+
+    private static ChangelogEvent toEvent(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> fields = record.getValue();
+        return toEvent(record.getId(), (String) fields.get(PREVIOUS_VARIANT_FIELD), (String) fields.get(UPDATED_VARIANT_FIELD));
+    }
+
+    private static ChangelogEvent toEvent(ByteRecord record) {
+        Map<String, String> fields = new HashMap<>();
+        record.getValue().forEach((field, value) ->
+                fields.put(new String(field, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8)));
+        return toEvent(record.getId(), fields.get(PREVIOUS_VARIANT_FIELD), fields.get(UPDATED_VARIANT_FIELD));
+    }
+
+    private static ChangelogEvent toEvent(RecordId recordId, String previousVariant, String updatedVariant) {
+        return new ChangelogEvent()
+                .previousVariant(previousVariant)
+                .updatedVariant(updatedVariant)
+                .timestamp(recordId.getTimestamp());
+    }
+
+    private static String writeEvent(ChangelogEvent event) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize changelog event", e);
+        }
+    }
+
+    private static ChangelogEvent readEvent(String event) {
+        try {
+            return OBJECT_MAPPER.readValue(event, ChangelogEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize changelog event", e);
+        }
+    }
+
+    private static ChangelogCursor toCursor(RecordId recordId) {
+        return new ChangelogCursor(recordId.getTimestamp(), recordId.getSequence());
+    }
+
+    public static String streamKey(String flagKey) {
+        return STREAM_KEY_PREFIX + flagKey;
+    }
+
+    private static byte[] rawStreamKey(String flagKey) {
+        return streamKey(flagKey).getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -13,6 +13,10 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+/**
+ * The changelog of a single flag. Stored as a Redis hash before changelogs moved to
+ * Redis Streams, such hashes are migrated by {@link LegacyChangelogMigration}.
+ */
 @RedisHash("featureFlagChangelog")
 @NoArgsConstructor
 @Data
@@ -0,0 +1,61 @@
+package org.flagd.hub.config.server.repositories.changelog;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.repositories.RedisBulkLoader;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Moves changelogs stored as {@link ChangelogEvents} hashes into per-flag Redis Streams on startup,
+ * and indexes the latest event of streams created before the latest-event index existed.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class LegacyChangelogMigration {
+    private final RedisBulkLoader redisBulkLoader;
+    private final ChangeLogRepository changeLogRepository;
+    private final RedisKeyValueTemplate redisKeyValueTemplate;
+
+    @PostConstruct
+    void migrate() {
+        try {
+            List<ChangelogEvents> legacyChangelogs = redisBulkLoader.findAll(ChangelogEvents.class);
+            legacyChangelogs.forEach(this::migrate);
+            if (!legacyChangelogs.isEmpty()) {
+                log.info("migrated {} legacy changelogs to redis streams", legacyChangelogs.size());
+            }
+
+            int indexedFlags = changeLogRepository.indexMissingLatestEvents();
+            if (indexedFlags > 0) {
+                log.info("indexed latest changelog event of {} flags", indexedFlags);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error migrating legacy changelogs - {}", e.getMessage(), e);
+        }
+    }
+
+    private void migrate(ChangelogEvents changelogEvents) {
+        String flagKey = changelogEvents.getFlagKey();
+        List<ChangelogEvent> events = changelogEvents.getChangelogEventsList() == null ? List.of() :
+                changelogEvents.getChangelogEventsList().stream()
+                        .sorted(Comparator.comparing(ChangelogEvent::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .toList();
+
+        // a stream already exists if a previous migration was interrupted before removing the hash
+        if (!events.isEmpty() && !changeLogRepository.exists(flagKey)) {
+            changeLogRepository.appendAll(flagKey, events);
+        }
+        redisKeyValueTemplate.delete(flagKey, ChangelogEvents.class);
+        log.debug("migrated {} changelog events of flag '{}'", events.size(), flagKey);
+    }
+}
@@ -0,0 +1,130 @@
+package org.flagd.hub.config.server.repositories.featureflags;
+
+import lombok.RequiredArgsConstructor;
+import org.flagd.hub.config.server.repositories.RedisBulkLoader;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.convert.RedisConverter;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the secondary indexes of the flag listings: sorted sets of the keys of all flags, per area, per type and
+ * of changed and unchanged flags. Every member has score 0, so each index is ordered by key and a page is read with
+ * ZRANGEBYLEX from the cursor, whatever the size of the index. The indexes are written by the flag mutation scripts
+ * together with the flags, see {@link org.flagd.hub.config.server.repositories.FlagMutationRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class FlagIndexRepository {
+    public static final String SORTED_KEYS_INDEX_KEY = "featureFlagKeys";
+    public static final String AREA_INDEX_KEY_PREFIX = "featureFlagArea:";
+    public static final String TYPE_INDEX_KEY_PREFIX = "featureFlagType:";
+    public static final String CHANGED_INDEX_KEY = "featureFlagChanged";
+    public static final String UNCHANGED_INDEX_KEY = "featureFlagUnchanged";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConverter redisConverter;
+    private final RedisBulkLoader redisBulkLoader;
+
+    /**
+     * Finds the keys of the flags that may match the query, in the order of the query. One index is read from the
+     * cursor on, the one of the area if filtered by area, else the one of the type, of changed or unchanged flags
+     * or of all flags, together with the key prefix. The caller still checks the other filters on the flags.
+     * @param afterKey only keys after this one in the order of the query, may be null
+     * @param count maximum number of keys, null for no limit
+     */
+    public List<String> findKeys(FlagQuery query, String afterKey, Integer count) {
+        Range.Bound<String> lower = Range.Bound.unbounded();
+        Range.Bound<String> upper = Range.Bound.unbounded();
+        if (query.keyPrefix() != null) {
+            lower = Range.Bound.inclusive(query.keyPrefix());
+            upper = Range.Bound.exclusive(FlagQuery.prefixEnd(query.keyPrefix()));
+        }
+        if (afterKey != null) {
+            if (query.descending()) {
+                upper = Range.Bound.exclusive(afterKey);
+            } else {
+                lower = Range.Bound.exclusive(afterKey);
+            }
+        }
+
+        String indexKey = indexKey(query);
+        Range<String> range = Range.of(lower, upper);
+        Limit limit = count == null ? Limit.unlimited() : Limit.limit().count(count);
+        Set<String> keys = query.descending()
+                ? stringRedisTemplate.opsForZSet().reverseRangeByLex(indexKey, range, limit)
+                : stringRedisTemplate.opsForZSet().rangeByLex(indexKey, range, limit);
+
+        return keys == null ? new ArrayList<>() : new ArrayList<>(keys);
+    }
+
+    /**
+     * Adds the flags that are missing from the sorted keys index, for flags stored before the indexes existed.
+     * @return number of flags added to the indexes
+     */
+    public int indexMissingFlags() {
+        Set<String> flagKeys = stringRedisTemplate.opsForSet().members(keyspace());
+        if (flagKeys == null || flagKeys.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> indexedKeys = stringRedisTemplate.opsForZSet().range(SORTED_KEYS_INDEX_KEY, 0, -1);
+        List<String> missingKeys = flagKeys.stream()
+                .filter(flagKey -> indexedKeys == null || !indexedKeys.contains(flagKey))
+                .toList();
+        if (missingKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<FeatureFlag> missingFlags = redisBulkLoader.findAllById(FeatureFlagEntity.class, missingKeys).stream()
+                .map(FeatureFlagEntity::getValue)
+                .toList();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            missingFlags.forEach(flag -> {
+                stringConnection.zAdd(SORTED_KEYS_INDEX_KEY, 0, flag.getKey());
+                if (flag.getArea() != null) {
+                    stringConnection.zAdd(AREA_INDEX_KEY_PREFIX + flag.getArea(), 0, flag.getKey());
+                }
+                if (flag.getType() != null) {
+                    stringConnection.zAdd(TYPE_INDEX_KEY_PREFIX + flag.getType().name(), 0, flag.getKey());
+                }
+                stringConnection.zAdd(Boolean.TRUE.equals(flag.getWasChanged()) ? CHANGED_INDEX_KEY : UNCHANGED_INDEX_KEY,
+                        0, flag.getKey());
+            });
+            return null;
+        });
+
+        return missingFlags.size();
+    }
+
+    private static String indexKey(FlagQuery query) {
+        if (query.area() != null) {
+            return AREA_INDEX_KEY_PREFIX + query.area();
+        }
+        if (query.type() != null) {
+            return TYPE_INDEX_KEY_PREFIX + query.type().name();
+        }
+        if (query.wasChanged() != null) {
+            return query.wasChanged() ? CHANGED_INDEX_KEY : UNCHANGED_INDEX_KEY;
+        }
+
+        return SORTED_KEYS_INDEX_KEY;
+    }
+
+    private String keyspace() {
+        return redisConverter.getMappingContext().getRequiredPersistentEntity(FeatureFlagEntity.class).getKeySpace();
+    }
+}
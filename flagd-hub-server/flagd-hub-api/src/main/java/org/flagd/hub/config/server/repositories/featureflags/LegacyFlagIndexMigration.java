@@ -0,0 +1,31 @@
+package org.flagd.hub.config.server.repositories.featureflags;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indexes flags stored before the flag listing indexes existed on startup, see {@link FlagIndexRepository}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class LegacyFlagIndexMigration {
+    private final FlagIndexRepository flagIndexRepository;
+
+    @PostConstruct
+    void migrate() {
+        try {
+            int indexedFlags = flagIndexRepository.indexMissingFlags();
+            if (indexedFlags > 0) {
+                log.info("indexed {} flags stored before the flag indexes existed", indexedFlags);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error indexing legacy flags - {}", e.getMessage(), e);
+        }
+    }
+}
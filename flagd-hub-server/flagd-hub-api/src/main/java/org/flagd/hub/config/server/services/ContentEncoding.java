@@ -0,0 +1,83 @@
+package org.flagd.hub.config.server.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content encodings the flagd configuration snapshot is pre-compressed with.
+ */
+public enum ContentEncoding {
+    IDENTITY("identity"),
+    GZIP("gzip");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Picks the best encoding from an Accept-Encoding header value.
+     * @param acceptEncoding the raw header value, may be null
+     * @return gzip if the client accepts it with a non zero quality, identity otherwise
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+
+        boolean gzipAccepted = false;
+        boolean wildcardAccepted = false;
+        boolean gzipListed = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            boolean accepted = quality(parts) > 0;
+            if (coding.equals(GZIP.token) || coding.equals("x-gzip")) {
+                gzipListed = true;
+                gzipAccepted = accepted;
+            } else if (coding.equals("*")) {
+                wildcardAccepted = accepted;
+            }
+        }
+
+        return gzipAccepted || (!gzipListed && wildcardAccepted) ? GZIP : IDENTITY;
+    }
+
+    byte[] encode(byte[] content) {
+        if (this == IDENTITY) {
+            return content;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
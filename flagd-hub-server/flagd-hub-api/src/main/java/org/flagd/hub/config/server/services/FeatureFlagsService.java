@@ -1,104 +1,155 @@
 package org.flagd.hub.config.server.services;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
-import org.flagd.hub.config.server.repositories.changelog.ChangelogEvents;
-import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.events.FlagsChangedEvent;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.BulkFlagOperation;
 import org.flagd.hub.rest.model.ChangelogEvent;
 import org.flagd.hub.rest.model.FeatureFlag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.Set;
 
 @Log4j2
-@RequiredArgsConstructor
 @Service
 public class FeatureFlagsService {
+    private final FlagStorage flagStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<BulkFlagOperation.ActionEnum, Counter> appliedMutations = new EnumMap<>(BulkFlagOperation.ActionEnum.class);
+    private final Map<BulkFlagOperation.ActionEnum, Counter> rejectedMutations = new EnumMap<>(BulkFlagOperation.ActionEnum.class);
+
     @Autowired
-    private final CrudRepository<FeatureFlagEntity, String> featureFlagsRepository;
-    @Autowired
-    private final CrudRepository<ChangelogEvents, String> changelogEventsRepositories;
+    public FeatureFlagsService(FlagStorage flagStorage, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.flagStorage = flagStorage;
+        this.eventPublisher = eventPublisher;
+        for (BulkFlagOperation.ActionEnum operation : BulkFlagOperation.ActionEnum.values()) {
+            appliedMutations.put(operation, registerMutationCounter(meterRegistry, operation, "applied"));
+            rejectedMutations.put(operation, registerMutationCounter(meterRegistry, operation, "rejected"));
+        }
+    }
 
     public List<FeatureFlag> getAllFlags() {
-        var iterator = featureFlagsRepository.findAll().iterator();
-        List<FeatureFlag> allFlags = new ArrayList<>();
-        while (iterator.hasNext()) {
-            allFlags.add(iterator.next().getValue());
-        }
+        List<FeatureFlag> allFlags = flagStorage.findAll();
 
         log.debug("return all flags: {}", allFlags);
 
         return allFlags;
     }
 
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public FlagPage findFlags(FlagQuery query) {
+        return flagStorage.findPage(query);
+    }
+
     public Optional<FeatureFlag> getFlagByKey(String flagKey) {
-        return featureFlagsRepository.findById(flagKey).map(FeatureFlagEntity::getValue);
+        return flagStorage.findByKey(flagKey);
     }
 
+    /**
+     * @throws IllegalArgumentException if the variants or the targeting are malformed, see {@link FlagNormalizer}
+     */
     public void createFlag(FeatureFlag featureFlag) {
         log.info("creating new flag: {}", featureFlag);
-        featureFlagsRepository.save(new FeatureFlagEntity(featureFlag.getKey(), featureFlag));
+        flagStorage.create(FlagNormalizer.normalize(featureFlag));
+        countMutation(BulkFlagOperation.ActionEnum.CREATE, true);
+        eventPublisher.publishEvent(FlagsChangedEvent.of(featureFlag.getKey()));
     }
 
     public boolean updateFlagDefaultVariant(String flagKey, String newDefaultVariant) {
         log.info("update flag '{}' value to: {}", flagKey, newDefaultVariant);
-        Optional<FeatureFlagEntity> optionalFeatureFlagEntity = featureFlagsRepository.findById(flagKey);
-        if (optionalFeatureFlagEntity.isEmpty()) {
-            log.warn("flag '{}' not found", flagKey);
-            return false;
-        }
-        FeatureFlagEntity featureFlagEntity = optionalFeatureFlagEntity.get();
-        if(!isVariantExist(newDefaultVariant, featureFlagEntity)){
-            log.warn("variant '{}' does not exist in flag '{}'", newDefaultVariant, flagKey);
+        Optional<ChangelogEvent> changelogEvent = flagStorage.updateDefaultVariant(flagKey, newDefaultVariant);
+        countMutation(BulkFlagOperation.ActionEnum.UPDATE, changelogEvent.isPresent());
+        if (changelogEvent.isEmpty()) {
+            log.warn("flag '{}' not found or variant '{}' does not exist", flagKey, newDefaultVariant);
             return false;
         }
 
-        long nowTime = Instant.now().toEpochMilli();
-        ChangelogEvents changelogEvents = getChangelog(flagKey);
-        FeatureFlag featureFlag = featureFlagEntity.getValue();
-        changelogEvents.getChangelogEventsList().add(
-                new ChangelogEvent().previousVariant(featureFlag.getDefaultVariant())
-                        .updatedVariant(newDefaultVariant)
-                        .timestamp(nowTime));
-
-        featureFlag.setDefaultVariant(newDefaultVariant);
-        featureFlag.wasChanged(true);
-        featureFlagsRepository.save(featureFlagEntity);
-        changelogEventsRepositories.save(changelogEvents);
+        eventPublisher.publishEvent(FlagsChangedEvent.of(flagKey));
         return true;
     }
 
-    public List<ChangelogEvents> getChangeLogs(){
-        return StreamSupport.stream(changelogEventsRepositories.findAll().spliterator(), false)
-                .collect(Collectors.toList());
+    /**
+     * Applies already validated bulk operations in order and triggers a single configuration rebuild.
+     * @return for every operation whether it was applied
+     */
+    public List<Boolean> applyFlagOperations(List<BulkFlagOperation> operations) {
+        List<FlagMutation> mutations = operations.stream()
+                .map(FeatureFlagsService::toFlagMutation)
+                .toList();
+
+        long startTime = System.nanoTime();
+        List<Boolean> applied = flagStorage.applyAll(mutations);
+        Set<String> changedFlagKeys = new HashSet<>();
+        for (int i = 0; i < mutations.size(); i++) {
+            countMutation(operations.get(i).getAction(), applied.get(i));
+            if (applied.get(i)) {
+                changedFlagKeys.add(mutations.get(i).flagKey());
+            }
+        }
+        log.info("applied {} of {} flag operations in {} ms",
+                applied.stream().filter(Boolean::booleanValue).count(), mutations.size(), (System.nanoTime() - startTime) / 1_000_000);
+
+        if (!changedFlagKeys.isEmpty()) {
+            eventPublisher.publishEvent(new FlagsChangedEvent(changedFlagKeys));
+        }
+
+        return applied;
     }
 
-    public List<ChangelogEvent> getEvents(String flagKey) {
-        return getChangelog(flagKey).getChangelogEventsList();
+    public Map<String, ChangelogEvent> getLatestChangelogEvents() {
+        return flagStorage.findLatestEvents();
     }
 
-    private static boolean isVariantExist(String newDefaultVariant,FeatureFlagEntity featureFlagEntity) {
-        return featureFlagEntity.getValue()
-                .getVariants()
-                .containsKey(newDefaultVariant);
+    public ChangelogPage getEvents(String flagKey, Long from, Long to, String cursor, Integer limit) {
+        return flagStorage.findEvents(flagKey, from, to, cursor, limit);
     }
 
-    public void deleteFlag(String flagKey) {
-        featureFlagsRepository.deleteById(flagKey);
-        changelogEventsRepositories.deleteById(flagKey);
+    public boolean deleteFlag(String flagKey) {
+        boolean deleted = flagStorage.delete(flagKey);
+        countMutation(BulkFlagOperation.ActionEnum.DELETE, deleted);
+        if (!deleted) {
+            log.warn("flag '{}' not found", flagKey);
+            return false;
+        }
+
+        eventPublisher.publishEvent(FlagsChangedEvent.of(flagKey));
         log.info("flag {} deleted", flagKey);
+        return true;
+    }
+
+    private void countMutation(BulkFlagOperation.ActionEnum operation, boolean applied) {
+        (applied ? appliedMutations : rejectedMutations).get(operation).increment();
+    }
+
+    private static Counter registerMutationCounter(MeterRegistry meterRegistry, BulkFlagOperation.ActionEnum operation, String result) {
+        return Counter.builder("flagdhub.flag.mutations")
+                .description("Flag mutations, rejected when the flag or variant does not exist")
+                .tag("operation", operation.getValue())
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
-    private ChangelogEvents getChangelog(String flagKey) {
-        return changelogEventsRepositories.findById(flagKey).orElseGet(() -> new ChangelogEvents(flagKey));
+    private static FlagMutation toFlagMutation(BulkFlagOperation operation) {
+        return switch (operation.getAction()) {
+            case CREATE -> new FlagMutation.Create(FlagNormalizer.normalize(operation.getFlag()));
+            case UPDATE -> new FlagMutation.UpdateDefaultVariant(operation.getFlagKey(), operation.getDefaultVariant());
+            case DELETE -> new FlagMutation.Delete(operation.getFlagKey());
+        };
     }
 }
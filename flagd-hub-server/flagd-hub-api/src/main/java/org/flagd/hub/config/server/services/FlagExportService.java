@@ -0,0 +1,92 @@
+package org.flagd.hub.config.server.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.converters.FlagdConfigurationConverter;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Exports flags in the flagd configuration format. Flags are read from the storage in batches and written
+ * to the output as they are read, so memory use does not grow with the number of flags.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FlagExportService {
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private final FlagStorage flagStorage;
+
+    @Getter
+    public enum Format {
+        JSON(new JsonFactory(), "application/json", "json"),
+        YAML(YAMLFactory.builder().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER).build(), "application/yaml", "yaml");
+
+        private final JsonFactory factory;
+        private final String mediaType;
+        private final String fileExtension;
+
+        Format(JsonFactory factory, String mediaType, String fileExtension) {
+            this.factory = factory;
+            this.mediaType = mediaType;
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * @param format the format name, JSON when null
+         * @throws IllegalArgumentException if the format is unknown
+         */
+        public static Format of(String format) {
+            return format == null ? JSON : valueOf(format.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Writes the flags, ordered by key, without closing the output.
+     * @param area only export the flags of this area, all flags when null
+     * @return the number of exported flags
+     */
+    public int export(OutputStream output, Format format, String area) throws IOException {
+        long startTime = System.nanoTime();
+        int flagCount = 0;
+        try (JsonGenerator generator = format.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("flags");
+
+            String cursor = null;
+            do {
+                FlagPage page = flagStorage.findPage(new FlagQuery(area, null, null, null, false, cursor, BATCH_SIZE));
+                for (FeatureFlag flag : page.flags()) {
+                    generator.writeFieldName(flag.getKey());
+                    FlagdConfigurationConverter.writeFlag(generator, flag);
+                }
+                // hand every batch to the client instead of buffering the document
+                generator.flush();
+                flagCount += page.flags().size();
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+
+        log.info("exported {} flags as {} in {} ms", flagCount, format, (System.nanoTime() - startTime) / 1_000_000);
+        return flagCount;
+    }
+}
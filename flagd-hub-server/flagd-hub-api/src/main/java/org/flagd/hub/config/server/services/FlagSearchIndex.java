@@ -0,0 +1,214 @@
+package org.flagd.hub.config.server.services;
+
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over the key, name and description of flags. Words are lowercased and split
+ * on everything that is not a letter or a digit, and every query word matches the indexed words it is a
+ * prefix of. Results contain all query words and are ranked by where the words were found, the key
+ * weighing most, and by whether they matched whole words.
+ * Searches never lock; changes are serialized.
+ */
+public class FlagSearchIndex {
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int KEY_WEIGHT = 3;
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int WHOLE_WORD_BOOST = 2;
+    private static final Comparator<Map.Entry<String, Integer>> RANKING =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private volatile Index index = new Index();
+
+    /**
+     * @param words weight of every word of the flag
+     */
+    private record IndexedFlag(FeatureFlag flag, Map<String, Integer> words) {
+    }
+
+    /**
+     * @param postings weight of the flags by key for every word
+     */
+    private record Index(ConcurrentSkipListMap<String, Map<String, Integer>> postings, Map<String, IndexedFlag> flags) {
+        Index() {
+            this(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the whole content, searches see either the previous or the new content.
+     */
+    public synchronized void rebuild(Collection<FeatureFlag> flags) {
+        Index rebuilt = new Index();
+        flags.forEach(flag -> add(rebuilt, flag));
+        index = rebuilt;
+    }
+
+    /**
+     * Indexes the flag, replacing any previous flag with the same key.
+     */
+    public synchronized void put(FeatureFlag flag) {
+        remove(index, flag.getKey());
+        add(index, flag);
+    }
+
+    public synchronized void remove(String flagKey) {
+        remove(index, flagKey);
+    }
+
+    public int size() {
+        return index.flags().size();
+    }
+
+    /**
+     * Scoring reads the postings of the query word matching the fewest flags only, the other
+     * words are looked up in the words of those flags, so the cost grows with the number of matches.
+     * @return up to limit flags containing every word of the query, best match first
+     */
+    public List<FeatureFlag> search(String query, int limit) {
+        Index current = index;
+        List<String> queryWords = new ArrayList<>(words(query));
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+
+        String rarestWord = null;
+        List<Map.Entry<String, Map<String, Integer>>> rarestPostings = null;
+        long rarestCount = Long.MAX_VALUE;
+        for (String queryWord : queryWords) {
+            List<Map.Entry<String, Map<String, Integer>>> postings = matchingPostings(current, queryWord);
+            long count = postings.stream().mapToLong(posting -> posting.getValue().size()).sum();
+            if (count < rarestCount || rarestPostings == null) {
+                rarestWord = queryWord;
+                rarestPostings = postings;
+                rarestCount = count;
+            }
+        }
+
+        Map<String, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> posting : rarestPostings) {
+            int boost = posting.getKey().length() == rarestWord.length() ? WHOLE_WORD_BOOST : 1;
+            posting.getValue().forEach((flagKey, weight) -> scores.merge(flagKey, weight * boost, Math::max));
+        }
+
+        queryWords.remove(rarestWord);
+        if (!queryWords.isEmpty()) {
+            scores.entrySet().removeIf(score -> {
+                IndexedFlag indexed = current.flags().get(score.getKey());
+                for (String queryWord : queryWords) {
+                    int wordScore = indexed == null ? 0 : score(indexed.words(), queryWord);
+                    if (wordScore == 0) {
+                        return true;
+                    }
+                    score.setValue(score.getValue() + wordScore);
+                }
+                return false;
+            });
+        }
+
+        // keep only the best limit entries instead of sorting every match
+        PriorityQueue<Map.Entry<String, Integer>> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<String, Integer> score : scores.entrySet()) {
+            best.add(score);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        List<FeatureFlag> results = new ArrayList<>(ranked.size());
+        for (Map.Entry<String, Integer> score : ranked) {
+            IndexedFlag indexed = current.flags().get(score.getKey());
+            if (indexed != null) {
+                results.add(indexed.flag());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * @return the postings of every indexed word the query word is a prefix of
+     */
+    private static List<Map.Entry<String, Map<String, Integer>>> matchingPostings(Index index, String queryWord) {
+        List<Map.Entry<String, Map<String, Integer>>> postings = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Integer>> posting : index.postings().tailMap(queryWord).entrySet()) {
+            if (!posting.getKey().startsWith(queryWord)) {
+                break;
+            }
+            postings.add(posting);
+        }
+
+        return postings;
+    }
+
+    /**
+     * @return the score of the best word of the flag the query word matches, 0 if none matches
+     */
+    private static int score(Map<String, Integer> flagWords, String queryWord) {
+        int best = 0;
+        for (Map.Entry<String, Integer> flagWord : flagWords.entrySet()) {
+            if (flagWord.getKey().startsWith(queryWord)) {
+                int boost = flagWord.getKey().length() == queryWord.length() ? WHOLE_WORD_BOOST : 1;
+                best = Math.max(best, flagWord.getValue() * boost);
+            }
+        }
+
+        return best;
+    }
+
+    private static void add(Index index, FeatureFlag flag) {
+        Map<String, Integer> words = new HashMap<>();
+        addWords(words, flag.getKey(), KEY_WEIGHT);
+        addWords(words, flag.getName(), NAME_WEIGHT);
+        addWords(words, flag.getDescription(), DESCRIPTION_WEIGHT);
+
+        index.flags().put(flag.getKey(), new IndexedFlag(flag, words));
+        words.forEach((word, weight) -> index.postings()
+                .computeIfAbsent(word, key -> new ConcurrentHashMap<>())
+                .put(flag.getKey(), weight));
+    }
+
+    private static void remove(Index index, String flagKey) {
+        IndexedFlag removed = index.flags().remove(flagKey);
+        if (removed == null) {
+            return;
+        }
+
+        removed.words().keySet().forEach(word -> index.postings().computeIfPresent(word, (key, flagWeights) -> {
+            flagWeights.remove(flagKey);
+            return flagWeights.isEmpty() ? null : flagWeights;
+        }));
+    }
+
+    private static void addWords(Map<String, Integer> words, String text, int weight) {
+        words(text).forEach(word -> words.merge(word, weight, Integer::sum));
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                    .filter(word -> !word.isEmpty())
+                    .forEach(words::add);
+        }
+
+        return words;
+    }
+}
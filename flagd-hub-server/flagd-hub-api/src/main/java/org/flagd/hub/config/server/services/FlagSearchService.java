@@ -0,0 +1,95 @@
+package org.flagd.hub.config.server.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.events.FlagsChangedEvent;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over the flags, answered from a {@link FlagSearchIndex} without reading the storage.
+ * The index is built from the storage on startup and updated with the flags that changed.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FlagSearchService {
+    @Autowired
+    private final FlagStorage flagStorage;
+    @Autowired
+    private final MeterRegistry meterRegistry;
+
+    private final FlagSearchIndex index = new FlagSearchIndex();
+    private volatile boolean indexLoaded;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("flagdhub.search.flags", index::size)
+                .description("Flags in the search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuildIndex();
+        } catch (RuntimeException e) {
+            log.warn("Could not build the flag search index, it will be built on first search - {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public synchronized void onFlagsChanged(FlagsChangedEvent event) {
+        // a rebuild reads the flags after the change anyway
+        if (!indexLoaded) {
+            return;
+        }
+
+        try {
+            Map<String, FeatureFlag> changedFlags = flagStorage.findByKeys(event.flagKeys());
+            for (String flagKey : event.flagKeys()) {
+                FeatureFlag flag = changedFlags.get(flagKey);
+                if (flag == null) {
+                    index.remove(flagKey);
+                } else {
+                    index.put(flag);
+                }
+            }
+        } catch (RuntimeException e) {
+            indexLoaded = false;
+            log.error("Error updating the flag search index, it will be rebuilt on next search - {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return up to limit flags whose key, name or description contain every word of the query, best match first
+     */
+    public List<FeatureFlag> search(String query, int limit) {
+        if (!indexLoaded) {
+            rebuildIndex();
+        }
+
+        return index.search(query, limit);
+    }
+
+    private synchronized void rebuildIndex() {
+        if (indexLoaded) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        index.rebuild(flagStorage.findAll());
+        indexLoaded = true;
+        log.info("indexed {} flags for search in {} ms", index.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+}
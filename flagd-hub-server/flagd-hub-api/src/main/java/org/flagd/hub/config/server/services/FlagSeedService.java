@@ -0,0 +1,141 @@
+package org.flagd.hub.config.server.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seeds flags from a JSON array file. The file is parsed one flag at a time, and every batch
+ * costs one bulk existence check plus one bulk write of the flags that are missing,
+ * so memory stays bounded by the batch size and existing flags are never overwritten.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FlagSeedService {
+    static final int BATCH_SIZE = 1000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private final FlagStorage flagStorage;
+    @Autowired
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param read elements of the array read from the file
+     * @param created flags that did not exist and were written
+     * @param skipped flags that already existed, were repeated in the file, had no key, were invalid or were not objects
+     */
+    public record SeedResult(long read, long created, long skipped, long durationMillis) {
+    }
+
+    public SeedResult seed(Path path) {
+        long startTime = System.nanoTime();
+        long[] counts = new long[2];
+        try (InputStream inputStream = Files.newInputStream(path);
+             JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("expected a JSON array of flags");
+            }
+
+            List<FeatureFlag> batch = new ArrayList<>(BATCH_SIZE);
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("unexpected end of the JSON array of flags");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    log.warn("skipping array element that is not a flag object at {}", parser.currentLocation());
+                    parser.skipChildren();
+                    counts[0]++;
+                    continue;
+                }
+                batch.add(OBJECT_MAPPER.readValue(parser, FeatureFlag.class));
+                if (batch.size() == BATCH_SIZE) {
+                    seedBatch(batch, counts);
+                    batch.clear();
+                    log.info("seeding flags from {}: {} read, {} created", path, counts[0], counts[1]);
+                }
+            }
+            seedBatch(batch, counts);
+        } catch (IOException e) {
+            log.error("Error reading feature flags from {}: {}", path, e.getMessage());
+        }
+
+        SeedResult result = new SeedResult(counts[0], counts[1], counts[0] - counts[1],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        recordMetrics(result);
+        log.info("seeded flags from {}: {} read, {} created, {} skipped in {} ms",
+                path, result.read(), result.created(), result.skipped(), result.durationMillis());
+
+        return result;
+    }
+
+    private void seedBatch(List<FeatureFlag> batch, long[] counts) {
+        counts[0] += batch.size();
+
+        // the first occurrence of a key wins, like it did when flags were saved one by one
+        Map<String, FeatureFlag> flagsByKey = new LinkedHashMap<>();
+        batch.forEach(flag -> {
+            if (flag.getKey() == null || flag.getKey().isEmpty()) {
+                log.warn("skipping flag without key: {}", flag);
+            } else if (!flagsByKey.containsKey(flag.getKey())) {
+                try {
+                    flagsByKey.put(flag.getKey(), FlagNormalizer.normalize(flag));
+                } catch (IllegalArgumentException e) {
+                    log.warn("skipping invalid flag '{}': {}", flag.getKey(), e.getMessage());
+                }
+            }
+        });
+        if (flagsByKey.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingKeys = flagStorage.findExistingKeys(flagsByKey.keySet());
+        List<FlagMutation> creates = flagsByKey.values().stream()
+                .filter(flag -> !existingKeys.contains(flag.getKey()))
+                .<FlagMutation>map(FlagMutation.Create::new)
+                .toList();
+        if (!existingKeys.isEmpty()) {
+            log.debug("flags {} already exist, skipping flag initialization", existingKeys);
+        }
+
+        flagStorage.applyAll(creates);
+        counts[1] += creates.size();
+    }
+
+    private void recordMetrics(SeedResult result) {
+        Timer.builder("flagdhub.seed.duration")
+                .description("Time spent seeding flags from the startup file")
+                .register(meterRegistry)
+                .record(result.durationMillis(), TimeUnit.MILLISECONDS);
+        Counter.builder("flagdhub.seed.flags").tag("result", "created")
+                .register(meterRegistry)
+                .increment(result.created());
+        Counter.builder("flagdhub.seed.flags").tag("result", "skipped")
+                .register(meterRegistry)
+                .increment(result.skipped());
+    }
+}
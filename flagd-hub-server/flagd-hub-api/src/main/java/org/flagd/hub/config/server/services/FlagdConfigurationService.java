@@ -1,31 +1,306 @@
 package org.flagd.hub.config.server.services;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
 import org.flagd.hub.config.server.converters.FlagdConfigurationConverter;
-import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
-import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagRepository;
+import org.flagd.hub.config.server.events.FlagdConfigurationChangedEvent;
+import org.flagd.hub.config.server.events.FlagsChangedEvent;
+import org.flagd.hub.config.server.storage.FlagStorage;
 import org.flagd.hub.rest.model.FeatureFlag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Serves the flagd configuration from an in-memory snapshot that is rebuilt
+ * only when flags change, so polling flagd instances never hit the storage.
+ * A rebuild only reads and converts the flags that changed and reassembles the
+ * document from the cached fragments of the other flags.
+ * Configurations scoped to an area with the selector {@code area:<area>} are assembled on
+ * first request from a per-area index of the fragments and cached until a flag of the area changes.
+ */
+@Log4j2
 @Service
-@RequiredArgsConstructor
 public class FlagdConfigurationService {
+    private static final String AREA_SELECTOR_PREFIX = "area:";
+
+    private final FlagStorage flagStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Counter snapshotHits;
+    private final Counter snapshotMisses;
+    private final Timer fullBuilds;
+    private final Timer incrementalBuilds;
+
+    private final AtomicReference<FlagdConfigurationSnapshot> snapshot = new AtomicReference<>();
+    private volatile int flagCount;
+    /**
+     * Serialized flagd configuration of every flag, see {@link FlagdConfigurationConverter#convertToFragment},
+     * ordered by flag key so the document does not depend on the storage order. Guarded by this.
+     */
+    private final NavigableMap<String, FlagFragment> fragments = new TreeMap<>();
+    /** fragments of the flags of every area, guarded by this */
+    private final Map<String, NavigableMap<String, byte[]>> fragmentsByArea = new HashMap<>();
+    /** snapshots of the areas requested since their flags last changed */
+    private final Map<String, FlagdConfigurationSnapshot> areaSnapshots = new ConcurrentHashMap<>();
+    private boolean fragmentsLoaded;
+    /** revision of the last snapshot, kept while the snapshot is cleared after a failed rebuild, guarded by this */
+    private long lastRevision;
+
+    private record FlagFragment(String area, byte[] content) {
+    }
+
     @Autowired
-    private final CrudRepository<FeatureFlagEntity, String> featureFlagsRepository;
+    public FlagdConfigurationService(FlagStorage flagStorage, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.flagStorage = flagStorage;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.snapshotHits = registerReadCounter(meterRegistry, "hit");
+        this.snapshotMisses = registerReadCounter(meterRegistry, "miss");
+        this.fullBuilds = registerBuildTimer(meterRegistry, "full");
+        this.incrementalBuilds = registerBuildTimer(meterRegistry, "incremental");
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("flagdhub.configuration.flags", () -> flagCount)
+                .description("Flags in the current flagd configuration")
+                .register(meterRegistry);
+        Gauge.builder("flagdhub.configuration.revision", () -> {
+                    FlagdConfigurationSnapshot current = snapshot.get();
+                    return current == null ? 0 : current.getRevision();
+                })
+                .description("Revision of the current flagd configuration")
+                .register(meterRegistry);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            Gauge.builder("flagdhub.configuration.size", () -> {
+                        FlagdConfigurationSnapshot current = snapshot.get();
+                        return current == null ? 0 : current.getContent(encoding).length;
+                    })
+                    .description("Size of the current flagd configuration document")
+                    .baseUnit("bytes")
+                    .tag("encoding", encoding.getToken())
+                    .register(meterRegistry);
+        }
+    }
+
+    public FlagdConfigurationSnapshot getSnapshot() {
+        FlagdConfigurationSnapshot current = snapshot.get();
+        if (current == null) {
+            snapshotMisses.increment();
+            rebuildSnapshot();
+            current = snapshot.get();
+        } else {
+            snapshotHits.increment();
+        }
+
+        return current;
+    }
+
+    /**
+     * @param selector {@code area:<area>} for the flags of one area, null or empty for every flag
+     * @throws IllegalArgumentException if the selector is not supported
+     */
+    public FlagdConfigurationSnapshot getSnapshot(String selector) {
+        String area = parseAreaSelector(selector);
+        if (area == null) {
+            return getSnapshot();
+        }
 
-    public ObjectNode getFlagdConfiguration() {
-        var iterator = featureFlagsRepository.findAll().iterator();
-        List<FeatureFlag> allFlags = new ArrayList<>();
-        while (iterator.hasNext()) {
-            allFlags.add(iterator.next().getValue());
+        FlagdConfigurationSnapshot current = areaSnapshots.get(area);
+        if (current == null) {
+            snapshotMisses.increment();
+            current = buildAreaSnapshot(area);
+        } else {
+            snapshotHits.increment();
         }
 
-        return FlagdConfigurationConverter.convertToFlagdFormat(allFlags);
+        return current;
+    }
+
+    /**
+     * Like {@link #getSnapshot(String)}, but never builds a snapshot, which may read the storage.
+     * @return the cached snapshot, or null if it has to be built first
+     * @throws IllegalArgumentException if the selector is not supported
+     */
+    public FlagdConfigurationSnapshot getCachedSnapshot(String selector) {
+        String area = parseAreaSelector(selector);
+        FlagdConfigurationSnapshot current = area == null ? snapshot.get() : areaSnapshots.get(area);
+        if (current != null) {
+            snapshotHits.increment();
+        }
+
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuildSnapshot();
+        } catch (RuntimeException e) {
+            log.warn("Could not build initial flagd configuration, it will be built on first request - {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onFlagsChanged(FlagsChangedEvent event) {
+        log.debug("flags {} changed, rebuilding flagd configuration", event.flagKeys());
+        try {
+            rebuildSnapshot(event.flagKeys());
+        } catch (RuntimeException e) {
+            // the change is already stored, the next read builds the configuration
+            log.error("Error rebuilding flagd configuration, it will be built on next request - {}", e.getMessage(), e);
+        }
+    }
+
+    private void rebuildSnapshot() {
+        rebuildSnapshot(null);
+    }
+
+    /**
+     * @param changedFlagKeys flags to convert again, null to convert every flag
+     */
+    private synchronized void rebuildSnapshot(Set<String> changedFlagKeys) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        FlagdConfigurationSnapshot previous = snapshot.get();
+        long revision = ++lastRevision;
+        boolean incremental = fragmentsLoaded && changedFlagKeys != null;
+        try {
+            if (incremental) {
+                Set<String> changedAreas = new HashSet<>();
+                Map<String, FeatureFlag> changedFlags = flagStorage.findByKeys(changedFlagKeys);
+                changedFlagKeys.forEach(flagKey -> {
+                    changedAreas.add(removeFragment(flagKey));
+                    FeatureFlag changedFlag = changedFlags.get(flagKey);
+                    if (changedFlag != null) {
+                        changedAreas.add(putFragment(changedFlag));
+                    }
+                });
+                changedAreas.remove(null);
+                areaSnapshots.keySet().removeAll(changedAreas);
+            } else {
+                fragments.clear();
+                fragmentsByArea.clear();
+                areaSnapshots.clear();
+                flagStorage.findAll().forEach(this::putFragment);
+                fragmentsLoaded = true;
+            }
+        } catch (RuntimeException e) {
+            // some fragments may be outdated, convert every flag on the next read instead of serving the old snapshots
+            fragmentsLoaded = false;
+            snapshot.set(null);
+            areaSnapshots.clear();
+            throw e;
+        }
+
+        FlagdConfigurationSnapshot rebuilt = FlagdConfigurationSnapshot.of(revision,
+                FlagdConfigurationConverter.assemble(fragments.values().stream().map(FlagFragment::content).toList()));
+        snapshot.set(rebuilt);
+        flagCount = fragments.size();
+        sample.stop(incremental ? incrementalBuilds : fullBuilds);
+        log.debug("flagd configuration rebuilt, revision: {}, flags: {}, converted: {}",
+                revision, fragments.size(), incremental ? changedFlagKeys.size() : fragments.size());
+        if (previous == null || !previous.getEtag().equals(rebuilt.getEtag())) {
+            eventPublisher.publishEvent(new FlagdConfigurationChangedEvent(rebuilt));
+        }
+    }
+
+    private synchronized FlagdConfigurationSnapshot buildAreaSnapshot(String area) {
+        if (!fragmentsLoaded) {
+            rebuildSnapshot();
+        }
+
+        FlagdConfigurationSnapshot current = areaSnapshots.get(area);
+        if (current != null) {
+            return current;
+        }
+
+        NavigableMap<String, byte[]> areaFragments = fragmentsByArea.get(area);
+        FlagdConfigurationSnapshot built = FlagdConfigurationSnapshot.of(snapshot.get().getRevision(),
+                FlagdConfigurationConverter.assemble(areaFragments == null ? List.of() : areaFragments.values()));
+        // only existing areas are cached, so arbitrary selectors cannot grow the cache
+        if (areaFragments != null) {
+            areaSnapshots.put(area, built);
+        }
+
+        return built;
+    }
+
+    /**
+     * @return the area of the flag, null if it has none or could not be converted
+     */
+    private String putFragment(FeatureFlag flag) {
+        byte[] content = FlagdConfigurationConverter.convertToFragment(flag);
+        if (content == null) {
+            return null;
+        }
+
+        fragments.put(flag.getKey(), new FlagFragment(flag.getArea(), content));
+        if (flag.getArea() != null) {
+            fragmentsByArea.computeIfAbsent(flag.getArea(), area -> new TreeMap<>()).put(flag.getKey(), content);
+        }
+        return flag.getArea();
+    }
+
+    /**
+     * @return the area of the removed flag, null if it had none
+     */
+    private String removeFragment(String flagKey) {
+        FlagFragment removed = fragments.remove(flagKey);
+        if (removed == null || removed.area() == null) {
+            return null;
+        }
+
+        NavigableMap<String, byte[]> areaFragments = fragmentsByArea.get(removed.area());
+        areaFragments.remove(flagKey);
+        if (areaFragments.isEmpty()) {
+            fragmentsByArea.remove(removed.area());
+        }
+        return removed.area();
+    }
+
+    /**
+     * @return the area of an {@code area:<area>} selector, null without selector
+     */
+    private static String parseAreaSelector(String selector) {
+        if (selector == null || selector.isEmpty()) {
+            return null;
+        }
+        if (!selector.startsWith(AREA_SELECTOR_PREFIX) || selector.length() == AREA_SELECTOR_PREFIX.length()) {
+            throw new IllegalArgumentException("unsupported selector '" + selector + "', expected " + AREA_SELECTOR_PREFIX + "<area>");
+        }
+
+        return selector.substring(AREA_SELECTOR_PREFIX.length());
+    }
+
+    private static Timer registerBuildTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("flagdhub.configuration.build")
+                .description("Time spent reading flags and building the flagd configuration")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter registerReadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("flagdhub.configuration.reads")
+                .description("Reads of the flagd configuration, served from the snapshot (hit) or rebuilding it (miss)")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,114 @@
+package org.flagd.hub.config.server.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Immutable, fully serialized flagd configuration document, pre-encoded with every
+ * supported {@link ContentEncoding}.
+ * The content arrays are shared between readers and must never be modified.
+ */
+public final class FlagdConfigurationSnapshot {
+    private final long revision;
+    private final Map<ContentEncoding, byte[]> contents;
+    private final Map<ContentEncoding, String> etags;
+    private volatile String text;
+
+    private FlagdConfigurationSnapshot(long revision, Map<ContentEncoding, byte[]> contents, Map<ContentEncoding, String> etags) {
+        this.revision = revision;
+        this.contents = contents;
+        this.etags = etags;
+    }
+
+    static FlagdConfigurationSnapshot of(long revision, byte[] content) {
+        String hash = sha256(content);
+        Map<ContentEncoding, byte[]> contents = new EnumMap<>(ContentEncoding.class);
+        Map<ContentEncoding, String> etags = new EnumMap<>(ContentEncoding.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            contents.put(encoding, encoding.encode(content));
+            etags.put(encoding, encoding == ContentEncoding.IDENTITY
+                    ? "\"" + hash + "\""
+                    : "\"" + hash + "-" + encoding.getToken() + "\"");
+        }
+
+        return new FlagdConfigurationSnapshot(revision, contents, etags);
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public byte[] getContent() {
+        return getContent(ContentEncoding.IDENTITY);
+    }
+
+    public byte[] getContent(ContentEncoding encoding) {
+        return contents.get(encoding);
+    }
+
+    /**
+     * @return the content decoded once, for the gRPC sync streams
+     */
+    public String getContentAsString() {
+        String current = text;
+        if (current == null) {
+            current = new String(getContent(), StandardCharsets.UTF_8);
+            text = current;
+        }
+
+        return current;
+    }
+
+    /**
+     * @return strong entity tag (quoted) derived from the content hash
+     */
+    public String getEtag() {
+        return getEtag(ContentEncoding.IDENTITY);
+    }
+
+    /**
+     * @return strong entity tag (quoted) of the given encoded representation
+     */
+    public String getEtag(ContentEncoding encoding) {
+        return etags.get(encoding);
+    }
+
+    /**
+     * Checks an If-None-Match header value against every representation of this snapshot
+     * using weak comparison, as required for If-None-Match by RFC 9110.
+     * @param ifNoneMatch the raw header value, may be null
+     * @return true if the client already holds this snapshot
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (etags.containsValue(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.flagd.hub.config.server.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Normalizes flags stored before variants and targeting were validated on write, on startup and
+ * before the first flagd configuration is built. Flags that already are normalized are not rewritten.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class LegacyFlagNormalization {
+    @Autowired
+    private final FlagStorage flagStorage;
+
+    @PostConstruct
+    void normalize() {
+        try {
+            List<FlagMutation> rewrites = new ArrayList<>();
+            for (FeatureFlag flag : flagStorage.findAll()) {
+                FeatureFlag normalized = normalize(flag);
+                if (normalized != null && !normalized.equals(flag)) {
+                    rewrites.add(new FlagMutation.Create(normalized));
+                }
+            }
+
+            if (!rewrites.isEmpty()) {
+                flagStorage.applyAll(rewrites);
+                log.info("normalized {} legacy flags", rewrites.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Error normalizing legacy flags - {}", e.getMessage(), e);
+        }
+    }
+
+    private static FeatureFlag normalize(FeatureFlag flag) {
+        try {
+            return FlagNormalizer.repair(flag, repair -> log.error("flag '{}': {}", flag.getKey(), repair));
+        } catch (IllegalArgumentException e) {
+            log.error("flag '{}' cannot be normalized: {}", flag.getKey(), e.getMessage());
+            return null;
+        }
+    }
+}
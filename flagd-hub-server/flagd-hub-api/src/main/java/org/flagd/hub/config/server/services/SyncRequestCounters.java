@@ -0,0 +1,39 @@
+package org.flagd.hub.config.server.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@code flagdhub.sync.requests} counters of one transport, registered once for every result and
+ * encoding so counting a poll does not look up the meter registry.
+ */
+public class SyncRequestCounters {
+    private final Map<ContentEncoding, Counter> modified = new EnumMap<>(ContentEncoding.class);
+    private final Map<ContentEncoding, Counter> notModified = new EnumMap<>(ContentEncoding.class);
+
+    public SyncRequestCounters(MeterRegistry meterRegistry, String transport) {
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            modified.put(encoding, register(meterRegistry, transport, "modified", encoding));
+            notModified.put(encoding, register(meterRegistry, transport, "not_modified", encoding));
+        }
+    }
+
+    /**
+     * @param modified whether the poll was answered with the document rather than 304
+     */
+    public void count(boolean modified, ContentEncoding encoding) {
+        (modified ? this.modified : notModified).get(encoding).increment();
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, String transport, String result, ContentEncoding encoding) {
+        return Counter.builder("flagdhub.sync.requests")
+                .description("flagd configuration polls, answered with the document (modified) or 304 (not_modified)")
+                .tag("transport", transport)
+                .tag("result", result)
+                .tag("encoding", encoding.getToken())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package org.flagd.hub.config.server.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Position of a changelog event, encoded as an opaque cursor for paging.
+ * Events are ordered by timestamp and then by sequence, like Redis Stream entry ids.
+ */
+public record ChangelogCursor(long timestamp, long sequence) implements Comparable<ChangelogCursor> {
+    private static final Pattern ID_PATTERN = Pattern.compile("(\\d+)-(\\d+)");
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ChangelogCursor decode(String cursor) {
+        String id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        Matcher matcher = ID_PATTERN.matcher(id);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid changelog cursor: " + cursor);
+        }
+
+        return new ChangelogCursor(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(ChangelogCursor other) {
+        int byTimestamp = Long.compare(timestamp, other.timestamp);
+        return byTimestamp != 0 ? byTimestamp : Long.compare(sequence, other.sequence);
+    }
+
+    /**
+     * @return the position in Redis Stream entry id format
+     */
+    @Override
+    public String toString() {
+        return timestamp + "-" + sequence;
+    }
+}
@@ -0,0 +1,13 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.ChangelogEvent;
+
+import java.util.List;
+
+/**
+ * A window of a flag changelog.
+ * @param events the events of this page, oldest first
+ * @param nextCursor opaque cursor of the next page when more events follow, otherwise null
+ */
+public record ChangelogPage(List<ChangelogEvent> events, String nextCursor) {
+}
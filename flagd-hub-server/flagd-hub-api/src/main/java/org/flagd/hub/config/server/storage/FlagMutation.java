@@ -0,0 +1,23 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.FeatureFlag;
+
+/**
+ * A single flag write applied by a {@link FlagStorage}.
+ */
+public sealed interface FlagMutation {
+    String flagKey();
+
+    record Create(FeatureFlag flag) implements FlagMutation {
+        @Override
+        public String flagKey() {
+            return flag.getKey();
+        }
+    }
+
+    record UpdateDefaultVariant(String flagKey, String defaultVariant) implements FlagMutation {
+    }
+
+    record Delete(String flagKey) implements FlagMutation {
+    }
+}
@@ -0,0 +1,13 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.util.List;
+
+/**
+ * A window of the flags matching a {@link FlagQuery}.
+ * @param flags the flags of this page, in the order of the query
+ * @param nextCursor opaque cursor of the next page when more flags follow, otherwise null
+ */
+public record FlagPage(List<FeatureFlag> flags, String nextCursor) {
+}
@@ -0,0 +1,74 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Filters and window of a flag listing, ordered by key. Every filter is optional.
+ * @param area only flags of this area
+ * @param type only flags of this type
+ * @param wasChanged only flags whose default variant was (true) or was never (false) changed
+ * @param keyPrefix only flags whose key starts with it
+ * @param descending order by key descending instead of ascending
+ * @param cursor cursor of a previous page, may be null
+ * @param limit maximum number of flags, null for no limit
+ */
+public record FlagQuery(String area, FeatureFlag.TypeEnum type, Boolean wasChanged, String keyPrefix,
+                        boolean descending, String cursor, Integer limit) {
+
+    /**
+     * @return true if the flag passes every filter, the cursor is not considered
+     */
+    public boolean matches(FeatureFlag flag) {
+        return (area == null || area.equals(flag.getArea()))
+                && (type == null || type == flag.getType())
+                && (wasChanged == null || wasChanged == Boolean.TRUE.equals(flag.getWasChanged()))
+                && (keyPrefix == null || flag.getKey().startsWith(keyPrefix));
+    }
+
+    /**
+     * @return the key of the last flag of the previous page, or null without cursor
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another key prefix
+     */
+    public String cursorKey() {
+        if (cursor == null) {
+            return null;
+        }
+
+        String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (key.isEmpty() || (keyPrefix != null && !key.startsWith(keyPrefix))) {
+            throw new IllegalArgumentException("Invalid flag cursor: " + cursor);
+        }
+
+        return key;
+    }
+
+    /**
+     * @return true if the key comes after the cursor in the order of the query
+     */
+    public boolean isAfter(String key, String cursorKey) {
+        if (cursorKey == null) {
+            return true;
+        }
+
+        int comparison = key.compareTo(cursorKey);
+        return descending ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * @return the cursor of the page that follows the flag with the given key
+     */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the smallest string greater than every string starting with the prefix
+     */
+    public static String prefixEnd(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+}
@@ -0,0 +1,78 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Storage of flags and their changelogs. The engine is chosen with {@value #TYPE_PROPERTY}.
+ * Every mutation is atomic: a flag and its changelog never change separately.
+ * Returned flags may be shared with the engine and must not be modified.
+ */
+public interface FlagStorage {
+    String TYPE_PROPERTY = "flagd-hub.storage.type";
+
+    List<FeatureFlag> findAll();
+
+    Optional<FeatureFlag> findByKey(String flagKey);
+
+    /**
+     * Reads many flags at once instead of one {@link #findByKey} call per key.
+     * @return the flags that exist, by key
+     */
+    Map<String, FeatureFlag> findByKeys(Collection<String> flagKeys);
+
+    /**
+     * Reads a window of the flags matching the query, served from secondary indexes kept up to date on write.
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    FlagPage findPage(FlagQuery query);
+
+    /**
+     * @return the subset of the keys that exist
+     */
+    Set<String> findExistingKeys(Collection<String> flagKeys);
+
+    /**
+     * Stores the flag, replacing any previous flag with the same key.
+     */
+    void create(FeatureFlag flag);
+
+    /**
+     * Sets the default variant and records the change in the flag changelog.
+     * @return the recorded changelog event, or empty if the flag or the variant does not exist
+     */
+    Optional<ChangelogEvent> updateDefaultVariant(String flagKey, String newDefaultVariant);
+
+    /**
+     * Deletes the flag together with its changelog.
+     * @return true if the flag existed
+     */
+    boolean delete(String flagKey);
+
+    /**
+     * Applies the mutations in order, each one atomically.
+     * @return for every mutation whether it was applied, see the single-mutation methods
+     */
+    List<Boolean> applyAll(List<FlagMutation> mutations);
+
+    /**
+     * Reads a window of a flag changelog, oldest first.
+     * @param from inclusive lower timestamp bound, may be null
+     * @param to inclusive upper timestamp bound, may be null
+     * @param cursor cursor of a previous page, takes precedence over from, may be null
+     * @param limit maximum number of events, null for no limit
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    ChangelogPage findEvents(String flagKey, Long from, Long to, String cursor, Integer limit);
+
+    /**
+     * @return the latest changelog event of every flag that has one
+     */
+    Map<String, ChangelogEvent> findLatestEvents();
+}
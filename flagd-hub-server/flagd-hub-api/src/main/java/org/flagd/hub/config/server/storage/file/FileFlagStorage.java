@@ -0,0 +1,330 @@
+package org.flagd.hub.config.server.storage.file;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage;
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage.ChangelogEntry;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps flags in memory like {@link InMemoryFlagStorage} and makes them durable on local disk,
+ * for single-node deployments without Redis. Every mutation is appended to a {@link WriteAheadLog}
+ * before it is applied; with a zero fsync interval a write returns once it is on disk, otherwise
+ * the log is synced in the background and a crash loses at most one interval of writes.
+ * The whole state is periodically written to a snapshot, which lets the log start over, so
+ * startup loads the latest snapshot and replays only the records written after it.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "file")
+public class FileFlagStorage implements FlagStorage {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.json");
+
+    private final InMemoryFlagStorage memory = new InMemoryFlagStorage();
+    private final Path directory;
+    private final Duration fsyncInterval;
+    private final WriteAheadLog writeAheadLog;
+    private final ScheduledExecutorService scheduler;
+    private final Object writeLock = new Object();
+    private final Object snapshotLock = new Object();
+    // whether records were appended since the last snapshot
+    private volatile boolean dirty;
+
+    /**
+     * One log record, holding a mutation and the time it was applied at.
+     */
+    record LogRecord(long timestamp, String action, String flagKey, FeatureFlag flag, String defaultVariant) {
+        static LogRecord of(FlagMutation mutation, long timestamp) {
+            if (mutation instanceof FlagMutation.Create create) {
+                return new LogRecord(timestamp, "create", create.flagKey(), create.flag(), null);
+            }
+            if (mutation instanceof FlagMutation.UpdateDefaultVariant update) {
+                return new LogRecord(timestamp, "update", update.flagKey(), null, update.defaultVariant());
+            }
+            return new LogRecord(timestamp, "delete", mutation.flagKey(), null, null);
+        }
+
+        FlagMutation toMutation() {
+            return switch (action) {
+                case "create" -> new FlagMutation.Create(flag);
+                case "update" -> new FlagMutation.UpdateDefaultVariant(flagKey, defaultVariant);
+                case "delete" -> new FlagMutation.Delete(flagKey);
+                default -> throw new IllegalStateException("unknown log record action " + action);
+            };
+        }
+    }
+
+    /**
+     * State of the storage once every log segment before {@code segment} is applied.
+     */
+    record Snapshot(long segment, List<FeatureFlag> flags, Map<String, List<ChangelogEntry>> changelogs) {
+    }
+
+    public FileFlagStorage(@Value("${flagd-hub.storage.file.directory:./data}") Path directory,
+                           @Value("${flagd-hub.storage.file.fsync-interval:0ms}") Duration fsyncInterval,
+                           @Value("${flagd-hub.storage.file.snapshot-interval:5m}") Duration snapshotInterval) throws IOException {
+        this.directory = directory;
+        this.fsyncInterval = fsyncInterval;
+        this.writeAheadLog = new WriteAheadLog(directory);
+        recover();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flag-storage-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!fsyncInterval.isZero()) {
+            scheduler.scheduleWithFixedDelay(this::syncInBackground,
+                    fsyncInterval.toMillis(), fsyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::snapshotInBackground,
+                snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public List<FeatureFlag> findAll() {
+        return memory.findAll();
+    }
+
+    @Override
+    public Optional<FeatureFlag> findByKey(String flagKey) {
+        return memory.findByKey(flagKey);
+    }
+
+    @Override
+    public Map<String, FeatureFlag> findByKeys(Collection<String> flagKeys) {
+        return memory.findByKeys(flagKeys);
+    }
+
+    @Override
+    public FlagPage findPage(FlagQuery query) {
+        return memory.findPage(query);
+    }
+
+    @Override
+    public Set<String> findExistingKeys(Collection<String> flagKeys) {
+        return memory.findExistingKeys(flagKeys);
+    }
+
+    @Override
+    public void create(FeatureFlag flag) {
+        write(List.of(new FlagMutation.Create(flag)));
+    }
+
+    @Override
+    public Optional<ChangelogEvent> updateDefaultVariant(String flagKey, String newDefaultVariant) {
+        return Optional.ofNullable((ChangelogEvent) write(
+                List.of(new FlagMutation.UpdateDefaultVariant(flagKey, newDefaultVariant))).get(0));
+    }
+
+    @Override
+    public boolean delete(String flagKey) {
+        return write(List.of(new FlagMutation.Delete(flagKey))).get(0) != null;
+    }
+
+    @Override
+    public List<Boolean> applyAll(List<FlagMutation> mutations) {
+        return write(mutations).stream().map(result -> result != null).toList();
+    }
+
+    @Override
+    public ChangelogPage findEvents(String flagKey, Long from, Long to, String cursor, Integer limit) {
+        return memory.findEvents(flagKey, from, to, cursor, limit);
+    }
+
+    @Override
+    public Map<String, ChangelogEvent> findLatestEvents() {
+        return memory.findLatestEvents();
+    }
+
+    /**
+     * Writes a snapshot of the current state and drops the log records it covers.
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            Snapshot snapshot;
+            synchronized (writeLock) {
+                // flags and changelog entries are immutable, so the snapshot is written outside the lock
+                snapshot = new Snapshot(writeAheadLog.rotate(), memory.findAll(), memory.findAllChangelogs());
+                dirty = false;
+            }
+
+            try {
+                writeSnapshot(snapshot);
+            } catch (IOException e) {
+                // the log still holds everything, the next snapshot just has to cover more
+                dirty = true;
+                throw e;
+            }
+        }
+    }
+
+    private void writeSnapshot(Snapshot snapshot) throws IOException {
+        Path file = snapshotPath(snapshot.segment());
+        Path temporaryFile = directory.resolve(file.getFileName() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(temporaryFile.toFile())) {
+            OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, snapshot);
+            outputStream.getFD().sync();
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+
+        for (long segment : snapshots()) {
+            if (segment < snapshot.segment()) {
+                Files.deleteIfExists(snapshotPath(segment));
+            }
+        }
+        writeAheadLog.deleteSegmentsBefore(snapshot.segment());
+        log.debug("wrote flag storage snapshot {} with {} flags", file, snapshot.flags().size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        scheduler.shutdown();
+        // a snapshot at shutdown keeps the next startup from replaying the log
+        if (dirty) {
+            snapshot();
+        }
+        writeAheadLog.close();
+    }
+
+    /**
+     * Logs and applies the mutations in order, and waits for the log to reach the disk unless
+     * it is synced in the background.
+     */
+    private List<Object> write(List<FlagMutation> mutations) {
+        List<Object> results = new ArrayList<>(mutations.size());
+        long sequence = 0;
+        try {
+            synchronized (writeLock) {
+                for (FlagMutation mutation : mutations) {
+                    long timestamp = System.currentTimeMillis();
+                    sequence = writeAheadLog.append(OBJECT_MAPPER.writeValueAsBytes(LogRecord.of(mutation, timestamp)));
+                    results.add(memory.apply(mutation, timestamp));
+                    dirty = true;
+                }
+            }
+            if (fsyncInterval.isZero() && sequence > 0) {
+                writeAheadLog.sync(sequence);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not write the flag storage log", e);
+        }
+
+        return results;
+    }
+
+    private void recover() throws IOException {
+        long startTime = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(".tmp")).toList()) {
+                Files.delete(file);
+            }
+        }
+
+        List<Long> snapshots = snapshots();
+        long fromSegment = 0;
+        if (!snapshots.isEmpty()) {
+            Snapshot snapshot = OBJECT_MAPPER.readValue(
+                    snapshotPath(snapshots.get(snapshots.size() - 1)).toFile(), Snapshot.class);
+            memory.restore(snapshot.flags(), snapshot.changelogs());
+            fromSegment = snapshot.segment();
+        }
+
+        long replayed = writeAheadLog.open(fromSegment, payload -> {
+            try {
+                LogRecord logRecord = OBJECT_MAPPER.readValue(payload, LogRecord.class);
+                memory.apply(logRecord.toMutation(), logRecord.timestamp());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        dirty = replayed > 0;
+
+        log.info("recovered {} flags from {} ({} snapshot, {} log records) in {} ms",
+                memory.findAll().size(), directory, snapshots.isEmpty() ? "no" : "1", replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private void syncInBackground() {
+        try {
+            if (writeAheadLog.hasUnsyncedRecords()) {
+                writeAheadLog.syncAll();
+            }
+        } catch (IOException e) {
+            log.error("could not sync the flag storage log: {}", e.getMessage());
+        }
+    }
+
+    private void snapshotInBackground() {
+        try {
+            if (dirty) {
+                snapshot();
+            }
+        } catch (IOException e) {
+            log.error("could not write a flag storage snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Makes the rename of a new snapshot durable. Not every platform can open a directory, which is fine.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("could not sync directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private List<Long> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SNAPSHOT_FILE.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path snapshotPath(long segment) {
+        return directory.resolve("snapshot-" + segment + ".json");
+    }
+}
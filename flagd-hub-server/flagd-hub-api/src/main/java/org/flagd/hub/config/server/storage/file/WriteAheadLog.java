@@ -0,0 +1,209 @@
+package org.flagd.hub.config.server.storage.file;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log split in numbered segments ({@code wal-<segment>.log}). Every record is framed
+ * as its length, a CRC32 of the payload and the payload, so a write torn by a crash is detected
+ * and cut off on the next start. Records are only durable once {@link #sync(long)} covered them.
+ * Appends and rotations must be serialized by the caller; syncs may run from any thread.
+ */
+@Log4j2
+class WriteAheadLog {
+    private static final Pattern SEGMENT_FILE = Pattern.compile("wal-(\\d+)\\.log");
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long segment;
+    // number of records appended and synced since the log was opened
+    private volatile long appended;
+    private volatile long synced;
+
+    WriteAheadLog(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Replays every record of the segments from the given one on, then appends to the last of them.
+     * @return number of replayed records
+     */
+    long open(long fromSegment, Consumer<byte[]> replay) throws IOException {
+        List<Long> segments = segments().stream().filter(number -> number >= fromSegment).toList();
+        long replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            replayed += replay(segments.get(i), i == segments.size() - 1, replay);
+        }
+
+        segment = segments.isEmpty() ? fromSegment : segments.get(segments.size() - 1);
+        channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return replayed;
+    }
+
+    /**
+     * @return sequence number of the record, to pass to {@link #sync(long)}
+     */
+    long append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        return ++appended;
+    }
+
+    /**
+     * Forces the log to disk up to the given record. Concurrent callers share a single fsync.
+     */
+    void sync(long sequence) throws IOException {
+        if (synced >= sequence) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (synced < sequence) {
+                long target = appended;
+                channel.force(false);
+                synced = target;
+            }
+        }
+    }
+
+    void syncAll() throws IOException {
+        sync(appended);
+    }
+
+    long segment() {
+        return segment;
+    }
+
+    boolean hasUnsyncedRecords() {
+        return synced < appended;
+    }
+
+    /**
+     * Closes the current segment and continues in a new one.
+     * @return number of the new segment
+     */
+    long rotate() throws IOException {
+        synchronized (syncLock) {
+            channel.force(false);
+            channel.close();
+            synced = appended;
+            segment++;
+            channel = FileChannel.open(segmentPath(segment),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        return segment;
+    }
+
+    void deleteSegmentsBefore(long segment) throws IOException {
+        for (long number : segments()) {
+            if (number < segment) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    void close() throws IOException {
+        synchronized (syncLock) {
+            channel.force(false);
+            channel.close();
+            synced = appended;
+        }
+    }
+
+    private long replay(long number, boolean last, Consumer<byte[]> replay) throws IOException {
+        Path path = segmentPath(number);
+        long records = 0;
+        long validSize = 0;
+        try (InputStream inputStream = Files.newInputStream(path);
+             DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream))) {
+            while (true) {
+                byte[] payload = readRecord(input);
+                if (payload == null) {
+                    break;
+                }
+                replay.accept(payload);
+                records++;
+                validSize += HEADER_SIZE + payload.length;
+            }
+        }
+
+        long size = Files.size(path);
+        if (validSize < size) {
+            if (!last) {
+                throw new IOException("corrupt record in " + path + " at offset " + validSize);
+            }
+            log.warn("truncating torn write at the end of {} from {} to {} bytes", path, size, validSize);
+            try (FileChannel truncated = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncated.truncate(validSize);
+                truncated.force(false);
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * @return the payload, or null at the end of the segment or at an incomplete or corrupt record
+     */
+    private static byte[] readRecord(DataInputStream input) throws IOException {
+        try {
+            int length = input.readInt();
+            int checksum = input.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_FILE.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve("wal-" + number + ".log");
+    }
+}
@@ -0,0 +1,377 @@
+package org.flagd.hub.config.server.storage.memory;
+
+import org.flagd.hub.config.server.storage.ChangelogCursor;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps flags and changelogs in process memory, for single-node deployments that do not need Redis.
+ * Stored flags and changelogs are immutable and replaced on write, so reads never lock;
+ * writes are serialized, which keeps every mutation atomic.
+ */
+@Component
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "memory")
+public class InMemoryFlagStorage implements FlagStorage {
+    private static final ChangelogEntry[] NO_ENTRIES = new ChangelogEntry[0];
+
+    private final Map<String, FeatureFlag> flags = new ConcurrentHashMap<>();
+    private final Map<String, ChangelogEntry[]> changelogs = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    // secondary indexes of the flag listings, sorted by key and changed together with the flags under the write lock
+    private final NavigableSet<String> sortedKeys = new ConcurrentSkipListSet<>();
+    private final Map<String, NavigableSet<String>> keysByArea = new ConcurrentHashMap<>();
+    private final Map<FeatureFlag.TypeEnum, NavigableSet<String>> keysByType = new ConcurrentHashMap<>();
+    private final NavigableSet<String> changedKeys = new ConcurrentSkipListSet<>();
+    private final NavigableSet<String> unchangedKeys = new ConcurrentSkipListSet<>();
+    // copy-on-write list of all flags, null until the first read after a write
+    private volatile List<FeatureFlag> allFlags;
+
+    /**
+     * @param id position of the event in the flag changelog
+     */
+    public record ChangelogEntry(ChangelogCursor id, ChangelogEvent event) {
+    }
+
+    @Override
+    public List<FeatureFlag> findAll() {
+        List<FeatureFlag> snapshot = allFlags;
+        if (snapshot == null) {
+            synchronized (writeLock) {
+                snapshot = allFlags;
+                if (snapshot == null) {
+                    snapshot = List.copyOf(flags.values());
+                    allFlags = snapshot;
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public Optional<FeatureFlag> findByKey(String flagKey) {
+        return Optional.ofNullable(flags.get(flagKey));
+    }
+
+    @Override
+    public Map<String, FeatureFlag> findByKeys(Collection<String> flagKeys) {
+        Map<String, FeatureFlag> found = new HashMap<>();
+        for (String flagKey : flagKeys) {
+            FeatureFlag flag = flags.get(flagKey);
+            if (flag != null) {
+                found.put(flagKey, flag);
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public FlagPage findPage(FlagQuery query) {
+        String cursorKey = query.cursorKey();
+        List<FeatureFlag> page = new ArrayList<>();
+        for (String flagKey : candidateKeys(query, cursorKey)) {
+            FeatureFlag flag = flags.get(flagKey);
+            if (flag == null || !query.matches(flag)) {
+                continue;
+            }
+            if (query.limit() != null && page.size() == query.limit()) {
+                return new FlagPage(page, FlagQuery.encodeCursor(page.get(page.size() - 1).getKey()));
+            }
+            page.add(flag);
+        }
+
+        return new FlagPage(page, null);
+    }
+
+    @Override
+    public Set<String> findExistingKeys(Collection<String> flagKeys) {
+        Set<String> existingKeys = new HashSet<>();
+        flagKeys.stream().filter(flags::containsKey).forEach(existingKeys::add);
+        return existingKeys;
+    }
+
+    @Override
+    public void create(FeatureFlag flag) {
+        apply(new FlagMutation.Create(flag), System.currentTimeMillis());
+    }
+
+    @Override
+    public Optional<ChangelogEvent> updateDefaultVariant(String flagKey, String newDefaultVariant) {
+        return Optional.ofNullable((ChangelogEvent) apply(
+                new FlagMutation.UpdateDefaultVariant(flagKey, newDefaultVariant), System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean delete(String flagKey) {
+        return apply(new FlagMutation.Delete(flagKey), System.currentTimeMillis()) != null;
+    }
+
+    @Override
+    public List<Boolean> applyAll(List<FlagMutation> mutations) {
+        List<Boolean> applied = new ArrayList<>(mutations.size());
+        synchronized (writeLock) {
+            mutations.forEach(mutation -> applied.add(apply(mutation, System.currentTimeMillis()) != null));
+        }
+
+        return applied;
+    }
+
+    @Override
+    public ChangelogPage findEvents(String flagKey, Long from, Long to, String cursor, Integer limit) {
+        ChangelogEntry[] entries = changelogs.getOrDefault(flagKey, NO_ENTRIES);
+        int start = cursor != null ? indexAfter(entries, ChangelogCursor.decode(cursor))
+                : from != null ? indexAfter(entries, new ChangelogCursor(from - 1, Long.MAX_VALUE)) : 0;
+
+        List<ChangelogEvent> events = new ArrayList<>();
+        for (int i = start; i < entries.length; i++) {
+            if (to != null && entries[i].id().timestamp() > to) {
+                break;
+            }
+            if (limit != null && events.size() == limit) {
+                return new ChangelogPage(events, entries[i - 1].id().encode());
+            }
+            events.add(entries[i].event());
+        }
+
+        return new ChangelogPage(events, null);
+    }
+
+    @Override
+    public Map<String, ChangelogEvent> findLatestEvents() {
+        Map<String, ChangelogEvent> latestEvents = new HashMap<>();
+        changelogs.forEach((flagKey, entries) -> latestEvents.put(flagKey, entries[entries.length - 1].event()));
+        return latestEvents;
+    }
+
+    /**
+     * @return every flag changelog, oldest entry first
+     */
+    public Map<String, List<ChangelogEntry>> findAllChangelogs() {
+        Map<String, List<ChangelogEntry>> allChangelogs = new HashMap<>();
+        changelogs.forEach((flagKey, entries) -> allChangelogs.put(flagKey, List.of(entries)));
+        return allChangelogs;
+    }
+
+    /**
+     * Replaces the whole content, for engines that load it from elsewhere.
+     */
+    public void restore(Collection<FeatureFlag> restoredFlags, Map<String, List<ChangelogEntry>> restoredChangelogs) {
+        synchronized (writeLock) {
+            flags.clear();
+            changelogs.clear();
+            sortedKeys.clear();
+            keysByArea.clear();
+            keysByType.clear();
+            changedKeys.clear();
+            unchangedKeys.clear();
+            restoredFlags.forEach(flag -> {
+                FeatureFlag restored = copyOf(flag);
+                index(flags.put(restored.getKey(), restored), restored);
+            });
+            restoredChangelogs.forEach((flagKey, entries) -> {
+                if (!entries.isEmpty()) {
+                    changelogs.put(flagKey, entries.toArray(NO_ENTRIES));
+                }
+            });
+            allFlags = null;
+        }
+    }
+
+    /**
+     * Applies a mutation as if it happened at the given time. Applying the same mutations
+     * with the same timestamps always leads to the same flags and changelog ids.
+     * @return the created flag, the recorded changelog event or the deleted flag, or null if nothing was applied
+     */
+    public Object apply(FlagMutation mutation, long timestamp) {
+        synchronized (writeLock) {
+            Object result;
+            if (mutation instanceof FlagMutation.Create create) {
+                FeatureFlag flag = copyOf(create.flag());
+                index(flags.put(flag.getKey(), flag), flag);
+                result = flag;
+            } else if (mutation instanceof FlagMutation.UpdateDefaultVariant update) {
+                result = updateDefaultVariant(update, timestamp);
+            } else {
+                changelogs.remove(mutation.flagKey());
+                FeatureFlag deleted = flags.remove(mutation.flagKey());
+                index(deleted, null);
+                result = deleted;
+            }
+
+            if (result != null) {
+                allFlags = null;
+            }
+            return result;
+        }
+    }
+
+    private ChangelogEvent updateDefaultVariant(FlagMutation.UpdateDefaultVariant update, long timestamp) {
+        FeatureFlag flag = flags.get(update.flagKey());
+        if (flag == null || flag.getVariants() == null || !flag.getVariants().containsKey(update.defaultVariant())) {
+            return null;
+        }
+
+        FeatureFlag updated = copyOf(flag)
+                .defaultVariant(update.defaultVariant())
+                .wasChanged(true);
+        ChangelogEntry[] entries = changelogs.getOrDefault(update.flagKey(), NO_ENTRIES);
+        ChangelogCursor id = nextId(entries, timestamp);
+        ChangelogEvent event = new ChangelogEvent()
+                .previousVariant(flag.getDefaultVariant() == null ? "" : flag.getDefaultVariant())
+                .updatedVariant(update.defaultVariant())
+                .timestamp(id.timestamp());
+
+        ChangelogEntry[] appended = Arrays.copyOf(entries, entries.length + 1);
+        appended[entries.length] = new ChangelogEntry(id, event);
+        flags.put(update.flagKey(), updated);
+        index(flag, updated);
+        changelogs.put(update.flagKey(), appended);
+
+        return event;
+    }
+
+    /**
+     * Moves the key of a flag from the index entries of its previous version to the ones of its current version.
+     * Listings read the indexes without the write lock, so an entry that stays is never touched and a moved key is
+     * added to its new entry before it is removed from the old one.
+     */
+    private void index(FeatureFlag previous, FeatureFlag current) {
+        if (previous == null && current == null) {
+            return;
+        }
+        String flagKey = current != null ? current.getKey() : previous.getKey();
+        if (previous == null) {
+            sortedKeys.add(flagKey);
+        }
+        String previousArea = previous == null ? null : previous.getArea();
+        String currentArea = current == null ? null : current.getArea();
+        if (!Objects.equals(previousArea, currentArea)) {
+            if (currentArea != null) {
+                keysByArea.computeIfAbsent(currentArea, area -> new ConcurrentSkipListSet<>()).add(flagKey);
+            }
+            if (previousArea != null) {
+                keysByArea.computeIfPresent(previousArea, (area, keys) -> keys.remove(flagKey) && keys.isEmpty() ? null : keys);
+            }
+        }
+        FeatureFlag.TypeEnum previousType = previous == null ? null : previous.getType();
+        FeatureFlag.TypeEnum currentType = current == null ? null : current.getType();
+        if (previousType != currentType) {
+            if (currentType != null) {
+                keysByType.computeIfAbsent(currentType, type -> new ConcurrentSkipListSet<>()).add(flagKey);
+            }
+            if (previousType != null) {
+                keysByType.computeIfPresent(previousType, (type, keys) -> keys.remove(flagKey) && keys.isEmpty() ? null : keys);
+            }
+        }
+        NavigableSet<String> previousChanged = previous == null ? null : changedIndex(previous);
+        NavigableSet<String> currentChanged = current == null ? null : changedIndex(current);
+        if (previousChanged != currentChanged) {
+            if (currentChanged != null) {
+                currentChanged.add(flagKey);
+            }
+            if (previousChanged != null) {
+                previousChanged.remove(flagKey);
+            }
+        }
+        if (current == null) {
+            sortedKeys.remove(flagKey);
+        }
+    }
+
+    private NavigableSet<String> changedIndex(FeatureFlag flag) {
+        return Boolean.TRUE.equals(flag.getWasChanged()) ? changedKeys : unchangedKeys;
+    }
+
+    /**
+     * @return the keys that may match the query, after the cursor and in the order of the query, read lazily from
+     * the index of the area, else of the type, of changed or unchanged flags or of all flags
+     */
+    private Iterable<String> candidateKeys(FlagQuery query, String cursorKey) {
+        NavigableSet<String> keys = sortedKeys;
+        if (query.area() != null) {
+            keys = keysByArea.getOrDefault(query.area(), Collections.emptyNavigableSet());
+        } else if (query.type() != null) {
+            keys = keysByType.getOrDefault(query.type(), Collections.emptyNavigableSet());
+        } else if (query.wasChanged() != null) {
+            keys = query.wasChanged() ? changedKeys : unchangedKeys;
+        }
+
+        if (query.keyPrefix() != null) {
+            keys = keys.subSet(query.keyPrefix(), true, FlagQuery.prefixEnd(query.keyPrefix()), false);
+        }
+        if (cursorKey != null) {
+            keys = query.descending() ? keys.headSet(cursorKey, false) : keys.tailSet(cursorKey, false);
+        }
+
+        return query.descending() ? keys.descendingSet() : keys;
+    }
+
+    /**
+     * Ids only grow, like Redis Stream ids, even if the clock goes backwards.
+     */
+    private static ChangelogCursor nextId(ChangelogEntry[] entries, long timestamp) {
+        if (entries.length == 0) {
+            return new ChangelogCursor(timestamp, 0);
+        }
+
+        ChangelogCursor last = entries[entries.length - 1].id();
+        return timestamp > last.timestamp() ? new ChangelogCursor(timestamp, 0)
+                : new ChangelogCursor(last.timestamp(), last.sequence() + 1);
+    }
+
+    /**
+     * @return index of the first entry after the given position
+     */
+    private static int indexAfter(ChangelogEntry[] entries, ChangelogCursor position) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle].id().compareTo(position) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static FeatureFlag copyOf(FeatureFlag flag) {
+        return new FeatureFlag()
+                .key(flag.getKey())
+                .name(flag.getName())
+                .area(flag.getArea())
+                .description(flag.getDescription())
+                .type(flag.getType())
+                .variants(flag.getVariants() == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(flag.getVariants())))
+                .defaultVariant(flag.getDefaultVariant())
+                .targeting(flag.getTargeting())
+                .creationTime(flag.getCreationTime())
+                .wasChanged(flag.getWasChanged());
+    }
+}
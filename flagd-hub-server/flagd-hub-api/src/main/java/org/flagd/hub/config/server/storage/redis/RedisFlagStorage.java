@@ -0,0 +1,149 @@
+package org.flagd.hub.config.server.storage.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.flagd.hub.config.server.repositories.FlagMutationRepository;
+import org.flagd.hub.config.server.repositories.RedisBulkLoader;
+import org.flagd.hub.config.server.repositories.changelog.ChangeLogRepository;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagRepository;
+import org.flagd.hub.config.server.repositories.featureflags.FlagIndexRepository;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The default engine, keeping flags as Redis hashes and changelogs as Redis Streams.
+ * Flag listings are served from Redis sets and a sorted set of keys, see {@link FlagIndexRepository}.
+ * Every operation is timed as {@code flagdhub.redis.operations}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = FlagStorage.TYPE_PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisFlagStorage implements FlagStorage {
+    private final FeatureFlagRepository featureFlagRepository;
+    private final FlagMutationRepository flagMutationRepository;
+    private final FlagIndexRepository flagIndexRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final RedisBulkLoader redisBulkLoader;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public List<FeatureFlag> findAll() {
+        return timed("findAll", () -> redisBulkLoader.findAll(FeatureFlagEntity.class).stream()
+                .map(FeatureFlagEntity::getValue)
+                .toList());
+    }
+
+    @Override
+    public Optional<FeatureFlag> findByKey(String flagKey) {
+        return timed("findByKey", () -> featureFlagRepository.findById(flagKey).map(FeatureFlagEntity::getValue));
+    }
+
+    @Override
+    public Map<String, FeatureFlag> findByKeys(Collection<String> flagKeys) {
+        return timed("findByKeys", () -> {
+            Map<String, FeatureFlag> found = new HashMap<>();
+            for (FeatureFlagEntity entity : redisBulkLoader.findAllById(FeatureFlagEntity.class, List.copyOf(flagKeys))) {
+                found.put(entity.getValue().getKey(), entity.getValue());
+            }
+
+            return found;
+        });
+    }
+
+    @Override
+    public FlagPage findPage(FlagQuery query) {
+        return timed("findPage", () -> {
+            List<FeatureFlag> page = new ArrayList<>();
+            String afterKey = query.cursorKey();
+            // one key more than a page tells whether another page follows; later batches keep the size
+            // so filters the index does not cover cost few round trips
+            Integer count = query.limit() == null ? null : query.limit() + 1;
+            while (true) {
+                List<String> keys = flagIndexRepository.findKeys(query, afterKey, count);
+                for (FeatureFlagEntity entity : redisBulkLoader.findAllById(FeatureFlagEntity.class, keys)) {
+                    FeatureFlag flag = entity.getValue();
+                    // the flag may have changed since the indexes were read
+                    if (!query.matches(flag)) {
+                        continue;
+                    }
+                    if (query.limit() != null && page.size() == query.limit()) {
+                        return new FlagPage(page, FlagQuery.encodeCursor(page.get(page.size() - 1).getKey()));
+                    }
+                    page.add(flag);
+                }
+
+                if (count == null || keys.size() < count) {
+                    return new FlagPage(page, null);
+                }
+                afterKey = keys.get(keys.size() - 1);
+            }
+        });
+    }
+
+    @Override
+    public Set<String> findExistingKeys(Collection<String> flagKeys) {
+        return timed("findExistingKeys", () -> redisBulkLoader.findExistingIds(FeatureFlagEntity.class, List.copyOf(flagKeys)));
+    }
+
+    @Override
+    public void create(FeatureFlag flag) {
+        timer("create").record(() -> flagMutationRepository.create(new FeatureFlagEntity(flag.getKey(), flag)));
+    }
+
+    @Override
+    public Optional<ChangelogEvent> updateDefaultVariant(String flagKey, String newDefaultVariant) {
+        return timed("updateDefaultVariant", () -> flagMutationRepository.updateDefaultVariant(flagKey, newDefaultVariant));
+    }
+
+    @Override
+    public boolean delete(String flagKey) {
+        return timed("delete", () -> flagMutationRepository.delete(flagKey));
+    }
+
+    @Override
+    public List<Boolean> applyAll(List<FlagMutation> mutations) {
+        return timed("applyAll", () -> flagMutationRepository.applyAll(mutations));
+    }
+
+    @Override
+    public ChangelogPage findEvents(String flagKey, Long from, Long to, String cursor, Integer limit) {
+        return timed("findEvents", () -> changeLogRepository.findEvents(flagKey, from, to, cursor, limit));
+    }
+
+    @Override
+    public Map<String, ChangelogEvent> findLatestEvents() {
+        return timed("findLatestEvents", changeLogRepository::findLatestEvents);
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        return timer(operation).record(call);
+    }
+
+    private Timer timer(String operation) {
+        return timers.computeIfAbsent(operation, key -> Timer.builder("flagdhub.redis.operations")
+                .description("Latency of the Redis calls behind each storage operation")
+                .tag("operation", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
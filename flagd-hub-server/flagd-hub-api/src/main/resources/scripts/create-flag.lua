@@ -0,0 +1,36 @@
+-- KEYS: flag hash, flag keyspace set, sorted flag keys index, changed flags index, unchanged flags index
+-- ARGV: flag key, area index key prefix, type index key prefix, followed by the field/value pairs of the flattened flag entity
+-- the area and type index keys depend on the stored flag, so they are derived here instead of passed as KEYS
+local previousArea = redis.call('HGET', KEYS[1], 'value.area')
+local previousType = redis.call('HGET', KEYS[1], 'value.type')
+if previousArea then
+    redis.call('ZREM', ARGV[2] .. previousArea, ARGV[1])
+end
+if previousType then
+    redis.call('ZREM', ARGV[3] .. previousType, ARGV[1])
+end
+
+redis.call('DEL', KEYS[1])
+for i = 4, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('SADD', KEYS[2], ARGV[1])
+
+-- every index is a sorted set with score 0, ordered by key so listings page it with ZRANGEBYLEX
+redis.call('ZADD', KEYS[3], 0, ARGV[1])
+local area = redis.call('HGET', KEYS[1], 'value.area')
+local type = redis.call('HGET', KEYS[1], 'value.type')
+if area then
+    redis.call('ZADD', ARGV[2] .. area, 0, ARGV[1])
+end
+if type then
+    redis.call('ZADD', ARGV[3] .. type, 0, ARGV[1])
+end
+if redis.call('HGET', KEYS[1], 'value.wasChanged') == '1' then
+    redis.call('ZADD', KEYS[4], 0, ARGV[1])
+    redis.call('ZREM', KEYS[5], ARGV[1])
+else
+    redis.call('ZADD', KEYS[5], 0, ARGV[1])
+    redis.call('ZREM', KEYS[4], ARGV[1])
+end
+return 1
@@ -0,0 +1,22 @@
+-- KEYS: flag hash, flag keyspace set, changelog stream, changelog streams index, latest changelog events hash,
+--       sorted flag keys index, changed flags index, unchanged flags index
+-- ARGV: flag key, area index key prefix, type index key prefix
+-- returns 1 if the flag existed, otherwise 0
+local area = redis.call('HGET', KEYS[1], 'value.area')
+local type = redis.call('HGET', KEYS[1], 'value.type')
+if area then
+    redis.call('ZREM', ARGV[2] .. area, ARGV[1])
+end
+if type then
+    redis.call('ZREM', ARGV[3] .. type, ARGV[1])
+end
+redis.call('ZREM', KEYS[6], ARGV[1])
+redis.call('ZREM', KEYS[7], ARGV[1])
+redis.call('ZREM', KEYS[8], ARGV[1])
+
+local deleted = redis.call('DEL', KEYS[1])
+redis.call('SREM', KEYS[2], ARGV[1])
+redis.call('DEL', KEYS[3])
+redis.call('SREM', KEYS[4], ARGV[1])
+redis.call('HDEL', KEYS[5], ARGV[1])
+return deleted
@@ -0,0 +1,22 @@
+-- KEYS: flag hash, changelog stream, changelog streams index, latest changelog events hash, changed flags index,
+--       unchanged flags index
+-- ARGV: flag key, new default variant
+-- returns the changelog event id and previous variant, or an empty array when the flag or variant does not exist
+if redis.call('HEXISTS', KEYS[1], 'value.variants.[' .. ARGV[2] .. ']') == 0 then
+    return {}
+end
+
+local previousVariant = redis.call('HGET', KEYS[1], 'value.defaultVariant') or ''
+redis.call('HSET', KEYS[1], 'value.defaultVariant', ARGV[2], 'value.wasChanged', '1')
+redis.call('ZADD', KEYS[5], 0, ARGV[1])
+redis.call('ZREM', KEYS[6], ARGV[1])
+
+local eventId = redis.call('XADD', KEYS[2], '*', 'previousVariant', previousVariant, 'updatedVariant', ARGV[2])
+redis.call('SADD', KEYS[3], ARGV[1])
+redis.call('HSET', KEYS[4], ARGV[1], cjson.encode({
+    previousVariant = previousVariant,
+    updatedVariant = ARGV[2],
+    timestamp = tonumber(string.match(eventId, '^(%d+)-'))
+}))
+
+return { eventId, previousVariant }
@@ -0,0 +1,100 @@
+package org.flagd.hub.config.server.configuration.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flagd.hub.config.server.services.FlagdConfigurationService;
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReactiveSyncServerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReactiveSyncServer reactiveSyncServer;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryFlagStorage flagStorage = new InMemoryFlagStorage();
+        flagStorage.create(createBooleanFlag("payments-flag", "on").area("payments"));
+        flagStorage.create(createBooleanFlag("checkout-flag", "off").area("checkout"));
+        FlagdConfigurationService flagdConfigurationService = new FlagdConfigurationService(
+                flagStorage, mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        reactiveSyncServer = new ReactiveSyncServer(0, 1, flagdConfigurationService, meterRegistry);
+        reactiveSyncServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactiveSyncServer.stop();
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags - Returns the configuration and 304 for a matching ETag")
+    void getFlagdConfiguration_ReturnsConfigurationAndNotModified() throws Exception {
+        HttpResponse<byte[]> response = get("", null, null);
+
+        assertEquals(200, response.statusCode());
+        JsonNode configuration = objectMapper.readTree(response.body());
+        assertEquals("on", configuration.at("/flags/payments-flag/defaultVariant").asText());
+        assertEquals("off", configuration.at("/flags/checkout-flag/defaultVariant").asText());
+
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<byte[]> notModified = get("", etag, null);
+        assertEquals(304, notModified.statusCode());
+        assertEquals(0, notModified.body().length);
+
+        // the latency is recorded once the response is written, which may be after the client read it
+        Timer syncLatency = meterRegistry.get("flagdhub.sync.duration").tag("transport", "reactive-http").timer();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (syncLatency.count() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, syncLatency.count());
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags?selector=area:<area> - Returns the gzip encoded flags of the area")
+    void getFlagdConfiguration_WithSelectorAndGzip_ReturnsEncodedArea() throws Exception {
+        HttpResponse<byte[]> response = get("?selector=area:payments", null, "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElseThrow());
+        JsonNode configuration = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(response.body())));
+        assertEquals(1, configuration.get("flags").size());
+        assertTrue(configuration.at("/flags/payments-flag").isObject());
+
+        assertEquals(400, get("?selector=tag:beta", null, null).statusCode());
+    }
+
+    private HttpResponse<byte[]> get(String query, String ifNoneMatch, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + reactiveSyncServer.getPort() + ReactiveSyncServer.PATH + query));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,62 @@
+package org.flagd.hub.config.server.configuration.redis;
+
+import org.flagd.hub.config.server.Application;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The file engine runs without Redis: no connection or repositories are created and the health check is UP.
+ */
+@SpringBootTest(classes = Application.class, properties = "flagd-hub.storage.type=file")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RedisConfigTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void configureStorage(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("flagd-hub.storage.file.directory", Files.createTempDirectory("flagd-hub-storage")::toString);
+    }
+
+    @BeforeAll
+    static void setup() {
+        System.setProperty("ADMIN_USERNAME", "testadmin");
+        System.setProperty("ADMIN_PASSWORD", "testpass");
+        System.setProperty("SECRET_KEY", "testsecretkeyforjwttokengeneration1234567890");
+        System.setProperty("TOKEN_EXPIRATION_IN_HOURS", "24");
+    }
+
+    @Test
+    @DisplayName("STORAGE_TYPE=file - Creates no Redis beans and reports UP without Redis")
+    void fileStorage_WithoutRedis_IsHealthy() throws Exception {
+        assertEquals(0, applicationContext.getBeanNamesForType(RedisConnectionFactory.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(RedisConfig.class).length);
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,72 @@
+package org.flagd.hub.config.server.configuration.security;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void setup() {
+        System.setProperty("SECRET_KEY", "testsecretkeyforjwttokengeneration1234567890");
+        System.setProperty("TOKEN_EXPIRATION_IN_HOURS", "24");
+    }
+
+    @Test
+    @DisplayName("Tokens are verified once and served from the cache until they expire")
+    void verify_CachesTokenUntilExpiration() {
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10, now::get, meterRegistry);
+        String token = JwtUtil.generateToken("admin");
+
+        assertEquals("admin", jwtTokenCache.verify(token));
+        assertEquals("admin", jwtTokenCache.verify(token));
+        assertEquals(1, misses());
+
+        now.addAndGet(Duration.ofHours(25).toMillis());
+        assertEquals("admin", jwtTokenCache.verify(token));
+        assertEquals(2, misses());
+        assertEquals(1, meterRegistry.counter("flagdhub.auth.token.verifications", "result", "hit").count());
+    }
+
+    @Test
+    @DisplayName("Invalid and revoked tokens do not verify")
+    void verify_WithInvalidOrRevokedToken_Throws() {
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(10, now::get, meterRegistry);
+        String token = JwtUtil.generateToken("admin");
+        jwtTokenCache.verify(token);
+
+        assertThrows(JwtException.class, () -> jwtTokenCache.verify(token.substring(0, token.length() - 2) + "xx"));
+
+        jwtTokenCache.revoke(token);
+        assertThrows(JwtException.class, () -> jwtTokenCache.verify(token));
+        assertEquals(0, jwtTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("The cache never grows beyond its maximum size")
+    void verify_WhenFull_DoesNotCache() {
+        JwtTokenCache jwtTokenCache = new JwtTokenCache(1, now::get, meterRegistry);
+        String first = JwtUtil.generateToken("first");
+        String second = JwtUtil.generateToken("second");
+
+        assertEquals("first", jwtTokenCache.verify(first));
+        assertEquals("second", jwtTokenCache.verify(second));
+        assertEquals("second", jwtTokenCache.verify(second));
+
+        assertEquals(1, jwtTokenCache.size());
+        assertEquals(3, misses());
+    }
+
+    private double misses() {
+        return meterRegistry.counter("flagdhub.auth.token.verifications", "result", "miss").count();
+    }
+}
@@ -2,6 +2,7 @@ package org.flagd.hub.config.server.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.utils.AuthTestHelper;
 import org.flagd.hub.rest.model.LoginRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -60,4 +62,20 @@ class AuthControllerTest extends AbstractIntegrationTest {
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("POST /flagd-hub/logout - Revokes the token")
+    void logout_RevokesToken() throws Exception {
+        String token = AuthTestHelper.getAuthToken(mockMvc, objectMapper);
+        mockMvc.perform(get("/flagd-hub/flags").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/flagd-hub/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/flagd-hub/flags").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/flagd-hub/flags").header("Authorization", "Bearer " + AuthTestHelper.getAuthToken(mockMvc, objectMapper)))
+                .andExpect(status().isOk());
+    }
 }
@@ -0,0 +1,84 @@
+package org.flagd.hub.config.server.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.utils.AuthTestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class FlagExportControllerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        authToken = AuthTestHelper.getAuthToken(mockMvc, objectMapper);
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/export - Streams the flags of an area as a flagd YAML file")
+    void exportFlags_AsYamlWithArea_StreamsFlagdFile() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("export-test-flag", "off").area("export-test"));
+
+        MvcResult result = mockMvc.perform(get("/flagd-hub/export")
+                        .param("format", "yaml")
+                        .param("area", "export-test")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/yaml"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"flags.yaml\""))
+                .andExpect(content().string(startsWith("""
+                        flags:
+                          export-test-flag:
+                            state: "ENABLED"
+                            defaultVariant: "off"
+                            variants:
+                        """)))
+                .andExpect(content().string(containsString("\"on\": true\n")))
+                .andExpect(content().string(containsString("\"off\": false\n")));
+
+        deleteFlag(mockMvc, authToken, "export-test-flag");
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/export - Returns 400 for an unknown format")
+    void exportFlags_WithUnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/flagd-hub/export")
+                        .param("format", "xml")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/flags/export - Returns the flag with the key export")
+    void getFlag_WithKeyExport_ReturnsFlag() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("export", "on"));
+
+        getFlag(mockMvc, authToken, "export")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.key").value("export"));
+
+        deleteFlag(mockMvc, authToken, "export");
+    }
+}
@@ -1,6 +1,7 @@
 package org.flagd.hub.config.server.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.flagd.hub.config.server.AbstractIntegrationTest;
 import org.flagd.hub.config.server.utils.AuthTestHelper;
 import org.flagd.hub.rest.model.FeatureFlag;
@@ -8,12 +9,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.flagd.hub.config.server.utils.FlagTestHelper.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -25,6 +34,9 @@ class FlagdConfigurationControllerTest extends AbstractIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String authToken;
 
     @BeforeEach
@@ -61,6 +73,103 @@ class FlagdConfigurationControllerTest extends AbstractIntegrationTest {
         deleteFlag(mockMvc, authToken, "test-flag-single");
     }
 
+    @Test
+    @DisplayName("GET /flagd/flags - Reflects updated default variant")
+    void getFlagdConfiguration_AfterUpdatingFlag_ReturnsNewDefaultVariant() throws Exception {
+        FeatureFlag flag = createBooleanFlag("test-flag-to-update", "on");
+
+        createFlag(mockMvc, objectMapper, authToken, flag)
+                .andExpect(status().isCreated());
+
+        updateFlag(mockMvc, objectMapper, authToken, "test-flag-to-update", "off")
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/flagd/flags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flags['test-flag-to-update'].defaultVariant").value("off"));
+
+        deleteFlag(mockMvc, authToken, "test-flag-to-update");
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags?selector=area:<area> - Returns only the flags of the area")
+    void getFlagdConfiguration_WithAreaSelector_ReturnsFlagsOfArea() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("test-flag-payments", "on").area("payments"))
+                .andExpect(status().isCreated());
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("test-flag-checkout", "on").area("checkout"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/flagd/flags").param("selector", "area:payments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flags.length()").value(1))
+                .andExpect(jsonPath("$.flags['test-flag-payments'].defaultVariant").value("on"));
+
+        updateFlag(mockMvc, objectMapper, authToken, "test-flag-payments", "off")
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/flagd/flags").param("selector", "area:payments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flags['test-flag-payments'].defaultVariant").value("off"));
+        mockMvc.perform(get("/flagd/flags").param("selector", "area:unknown"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flags.length()").value(0));
+        mockMvc.perform(get("/flagd/flags").param("selector", "tag:beta"))
+                .andExpect(status().isBadRequest());
+
+        deleteFlag(mockMvc, authToken, "test-flag-payments");
+        deleteFlag(mockMvc, authToken, "test-flag-checkout");
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags - Returns 304 when If-None-Match matches the current ETag")
+    void getFlagdConfiguration_WithMatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/flagd/flags"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/flagd/flags").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags - Returns new configuration when flags changed since the given ETag")
+    void getFlagdConfiguration_WithStaleETag_ReturnsConfiguration() throws Exception {
+        String etag = mockMvc.perform(get("/flagd/flags"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("test-flag-etag", "on"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/flagd/flags").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.flags['test-flag-etag']").exists());
+
+        deleteFlag(mockMvc, authToken, "test-flag-etag");
+    }
+
+    @Test
+    @DisplayName("GET /flagd/flags - Serves pre-compressed gzip when accepted")
+    void getFlagdConfiguration_WithGzipAccepted_ReturnsGzipEncodedBody() throws Exception {
+        byte[] identity = mockMvc.perform(get("/flagd/flags"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] compressed = mockMvc.perform(get("/flagd/flags").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(identity, gzip.readAllBytes());
+        }
+    }
+
     @Test
     @DisplayName("GET /flagd/flags - Does not return deleted flag")
     void getFlagdConfiguration_AfterDeletingFlag_FlagDoesNotAppear() throws Exception {
@@ -110,4 +219,29 @@ class FlagdConfigurationControllerTest extends AbstractIntegrationTest {
         deleteFlag(mockMvc, authToken, "multi-test-flag-2");
         deleteFlag(mockMvc, authToken, "multi-test-flag-3");
     }
+
+    @Test
+    @DisplayName("GET /flagd/flags - Counts polls by result and times the configuration build")
+    void getFlagdConfiguration_RecordsSyncMetrics() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("metrics-test-flag", "on"));
+        String etag = mockMvc.perform(get("/flagd/flags"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double notModified = syncRequests("not_modified");
+
+        mockMvc.perform(get("/flagd/flags").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(notModified + 1, syncRequests("not_modified"));
+        assertTrue(meterRegistry.get("flagdhub.configuration.build").timer().count() > 0);
+        assertTrue(meterRegistry.get("flagdhub.configuration.flags").gauge().value() >= 1);
+        assertTrue(meterRegistry.get("flagdhub.redis.operations").tag("operation", "findAll").timer().count() > 0);
+        assertTrue(meterRegistry.get("flagdhub.flag.mutations").tag("operation", "create").counter().count() > 0);
+
+        deleteFlag(mockMvc, authToken, "metrics-test-flag");
+    }
+
+    private double syncRequests(String result) {
+        return meterRegistry.counter("flagdhub.sync.requests", "transport", "http", "result", result, "encoding", "identity").count();
+    }
 }
@@ -1,20 +1,27 @@
 package org.flagd.hub.config.server.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.flagd.hub.config.server.AbstractIntegrationTest;
 import org.flagd.hub.config.server.utils.AuthTestHelper;
+import org.flagd.hub.rest.model.BulkFlagOperation;
 import org.flagd.hub.rest.model.ChangeDefaultVariantRequest;
 import org.flagd.hub.rest.model.FeatureFlag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Map;
 
 import static org.flagd.hub.config.server.utils.FlagTestHelper.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -159,6 +166,49 @@ class FlagdHubControllerTest extends AbstractIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    // ========== Bulk Operations ==========
+
+    @Test
+    @DisplayName("POST /flagd-hub/flags/bulk - Applies operations in order and reports each result")
+    void applyFlagOperations_WithMixedOperations_ReturnsPerItemResults() throws Exception {
+        applyFlagOperations(mockMvc, objectMapper, authToken,
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.CREATE).flag(createBooleanFlag("bulk-flag-1", "on")),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.CREATE).flag(createBooleanFlag("bulk-flag-2", "on")),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.UPDATE).flagKey("bulk-flag-1").defaultVariant("off"),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.UPDATE).flagKey("bulk-flag-1").defaultVariant("missing"),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.CREATE).flag(createBooleanFlag("bulk-invalid-flag", "missing")),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.DELETE).flagKey("bulk-flag-2"),
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.DELETE).flagKey("bulk-missing-flag"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(7))
+                .andExpect(jsonPath("$.results[0].status").value("created"))
+                .andExpect(jsonPath("$.results[1].status").value("created"))
+                .andExpect(jsonPath("$.results[2].status").value("updated"))
+                .andExpect(jsonPath("$.results[3].status").value("conflict"))
+                .andExpect(jsonPath("$.results[4].status").value("invalid"))
+                .andExpect(jsonPath("$.results[4].flagKey").value("bulk-invalid-flag"))
+                .andExpect(jsonPath("$.results[5].status").value("deleted"))
+                .andExpect(jsonPath("$.results[6].status").value("not_found"))
+                .andExpect(jsonPath("$.results[6].index").value(6));
+
+        getFlag(mockMvc, authToken, "bulk-flag-1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.defaultVariant").value("off"));
+        getFlag(mockMvc, authToken, "bulk-flag-2")
+                .andExpect(status().isNotFound());
+        getFlag(mockMvc, authToken, "bulk-invalid-flag")
+                .andExpect(status().isNotFound());
+
+        deleteFlag(mockMvc, authToken, "bulk-flag-1");
+    }
+
+    @Test
+    @DisplayName("POST /flagd-hub/flags/bulk - Returns 400 for an empty batch")
+    void applyFlagOperations_WithoutOperations_ReturnsBadRequest() throws Exception {
+        applyFlagOperations(mockMvc, objectMapper, authToken)
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== Changelog Operations ==========
 
     @Test
@@ -186,6 +236,24 @@ class FlagdHubControllerTest extends AbstractIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    @DisplayName("GET /flagd-hub/flags/changelogs - Returns the latest change of each flag")
+    void getAllChangelogs_AfterMultipleUpdates_ReturnsLatestChange() throws Exception {
+        FeatureFlag flag = createStringFlag("changelog-latest-flag", "v1",
+                Map.of("v1", "version1", "v2", "version2"));
+
+        createFlag(mockMvc, objectMapper, authToken, flag);
+        updateFlag(mockMvc, objectMapper, authToken, "changelog-latest-flag", "v2");
+        updateFlag(mockMvc, objectMapper, authToken, "changelog-latest-flag", "v1");
+
+        getAllChangelogs(mockMvc, authToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changelog-latest-flag.previousVariant").value("v2"))
+                .andExpect(jsonPath("$.changelog-latest-flag.updatedVariant").value("v1"));
+
+        deleteFlag(mockMvc, authToken, "changelog-latest-flag");
+    }
+
     @Test
     @DisplayName("Changelog records variant change with previousVariant and updatedVariant")
     void changelog_AfterUpdatingVariant_RecordsChangeDetails() throws Exception {
@@ -207,6 +275,177 @@ class FlagdHubControllerTest extends AbstractIntegrationTest {
         deleteFlag(mockMvc, authToken, "changelog-update-test-flag");
     }
 
+    @Test
+    @DisplayName("GET /flagd-hub/flags/{flagKey}/changelog - Pages through events with the next cursor")
+    void getChangelog_WithLimit_ReturnsPagesWithCursor() throws Exception {
+        FeatureFlag flag = createStringFlag("changelog-paging-flag", "v1",
+                Map.of("v1", "version1", "v2", "version2"));
+
+        createFlag(mockMvc, objectMapper, authToken, flag);
+        updateFlag(mockMvc, objectMapper, authToken, "changelog-paging-flag", "v2");
+        updateFlag(mockMvc, objectMapper, authToken, "changelog-paging-flag", "v1");
+        updateFlag(mockMvc, objectMapper, authToken, "changelog-paging-flag", "v2");
+
+        String nextCursor = mockMvc.perform(get("/flagd-hub/flags/changelog-paging-flag/changelog")
+                        .param("limit", "2")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].updatedVariant").value("v2"))
+                .andExpect(jsonPath("$[1].updatedVariant").value("v1"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/flagd-hub/flags/changelog-paging-flag/changelog")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].previousVariant").value("v1"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        deleteFlag(mockMvc, authToken, "changelog-paging-flag");
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/flags/{flagKey}/changelog - Returns 400 for invalid paging parameters")
+    void getChangelog_WithInvalidParameters_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/flagd-hub/flags/some-flag/changelog")
+                        .param("limit", "0")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/flagd-hub/flags/some-flag/changelog")
+                        .param("from", "2000")
+                        .param("to", "1000")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/flagd-hub/flags/some-flag/changelog")
+                        .param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/flags - Filters by area and type and pages through flags with the next cursor")
+    void getAllFlags_WithFiltersAndLimit_ReturnsPagesWithCursor() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("listing-flag-a", "on").area("listing"));
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("listing-flag-b", "on").area("listing"));
+        createFlag(mockMvc, objectMapper, authToken, createStringFlag("listing-flag-c", "v1", Map.of("v1", "version1")).area("listing"));
+
+        String nextCursor = mockMvc.perform(get("/flagd-hub/flags")
+                        .param("area", "listing")
+                        .param("type", "boolean")
+                        .param("order", "desc")
+                        .param("limit", "1")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken)
+                        .header(HttpHeaders.ORIGIN, "http://localhost:3000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].key").value("listing-flag-b"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                // browsers only let other origins read the cursor if it is exposed
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, containsString("X-Next-Cursor")))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/flagd-hub/flags")
+                        .param("area", "listing")
+                        .param("type", "boolean")
+                        .param("order", "desc")
+                        .param("limit", "1")
+                        .param("cursor", nextCursor)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].key").value("listing-flag-a"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/flagd-hub/flags")
+                        .param("keyPrefix", "listing-flag-")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].key").value(contains("listing-flag-a", "listing-flag-b", "listing-flag-c")));
+
+        mockMvc.perform(get("/flagd-hub/flags")
+                        .param("type", "unknown")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/flagd-hub/flags")
+                        .param("cursor", "not a cursor")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+
+        deleteFlag(mockMvc, authToken, "listing-flag-a");
+        deleteFlag(mockMvc, authToken, "listing-flag-b");
+        deleteFlag(mockMvc, authToken, "listing-flag-c");
+    }
+
+    @Test
+    @DisplayName("GET /flagd-hub/search - Returns the flags matching every word, best match first")
+    void searchFlags_WithWordPrefixes_ReturnsRankedFlags() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("search-beacon", "on").name("Beacon").description("Telemetry beacon"));
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("search-telemetry", "on").name("Telemetry").description("Sends a beacon"));
+
+        mockMvc.perform(get("/flagd-hub/search")
+                        .param("q", "beac")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].key").value(contains("search-beacon", "search-telemetry")));
+
+        deleteFlag(mockMvc, authToken, "search-beacon");
+
+        mockMvc.perform(get("/flagd-hub/search")
+                        .param("q", "search telemetry")
+                        .param("limit", "5")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].key").value(contains("search-telemetry")));
+
+        mockMvc.perform(get("/flagd-hub/search")
+                        .param("q", " ")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken))
+                .andExpect(status().isBadRequest());
+
+        // search is outside the flag namespace, so a flag may be called like it
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("search", "on"));
+        getFlag(mockMvc, authToken, "search")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.key").value("search"));
+
+        deleteFlag(mockMvc, authToken, "search");
+        deleteFlag(mockMvc, authToken, "search-telemetry");
+    }
+
+    @Test
+    @DisplayName("POST and GET /flagd-hub/flags/{flagKey} - Accept Smile and return CBOR bodies")
+    void flag_WithBinaryFormats_RoundTrips() throws Exception {
+        FeatureFlag flag = createIntegerFlag("binary-format-flag", "low", Map.of("low", "1", "high", "100"));
+
+        mockMvc.perform(post("/flagd-hub/flags")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken)
+                        .contentType("application/x-jackson-smile")
+                        .content(new SmileMapper().writeValueAsBytes(flag)))
+                .andExpect(status().isCreated());
+
+        byte[] cbor = mockMvc.perform(get("/flagd-hub/flags/binary-format-flag")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken)
+                        .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        FeatureFlag stored = new CBORMapper().readValue(cbor, FeatureFlag.class);
+        assertEquals("binary-format-flag", stored.getKey());
+        assertEquals(FeatureFlag.TypeEnum.INTEGER, stored.getType());
+        assertEquals(Map.of("low", "1", "high", "100"), stored.getVariants());
+        assertEquals("low", stored.getDefaultVariant());
+
+        deleteFlag(mockMvc, authToken, "binary-format-flag");
+    }
+
     // ========== Authentication & Authorization ==========
 
     @Test
@@ -270,4 +509,51 @@ class FlagdHubControllerTest extends AbstractIntegrationTest {
         createFlag(mockMvc, objectMapper, authToken, flag)
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("POST /flagd-hub/flags - Returns 400 for malformed targeting or variants")
+    void createFlag_WithMalformedTargetingOrVariants_ReturnsBadRequest() throws Exception {
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("malformed-targeting-flag", "on")
+                .targeting("{\"if\": [{\"==\": [{\"var\": \"email\"}"))
+                .andExpect(status().isBadRequest());
+        createFlag(mockMvc, objectMapper, authToken, createBooleanFlag("array-targeting-flag", "on")
+                .targeting("[1, 2]"))
+                .andExpect(status().isBadRequest());
+        createFlag(mockMvc, objectMapper, authToken, createIntegerFlag("malformed-integer-flag", "one",
+                Map.of("one", "1", "many", "lots")))
+                .andExpect(status().isBadRequest());
+
+        applyFlagOperations(mockMvc, objectMapper, authToken,
+                new BulkFlagOperation().action(BulkFlagOperation.ActionEnum.CREATE).flag(createBooleanFlag("bulk-malformed-flag", "on")
+                        .variants(Map.of("on", "yes", "off", "false"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("invalid"))
+                .andExpect(jsonPath("$.results[0].message").value("variant 'on' is not a boolean: yes"));
+
+        getFlag(mockMvc, authToken, "malformed-targeting-flag")
+                .andExpect(status().isNotFound());
+        getFlag(mockMvc, authToken, "bulk-malformed-flag")
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /flagd-hub/flags - Stores variants and targeting normalized")
+    void createFlag_WithLooseFormatting_StoresNormalizedFlag() throws Exception {
+        FeatureFlag flag = createIntegerFlag("normalized-flag", "one", Map.of("one", " 01 ", "two", "2"))
+                .targeting("""
+                        {
+                          "if": [{"==": [{"var": "email"}, "a@example.com"]}, "two", null]
+                        }
+                        """);
+
+        createFlag(mockMvc, objectMapper, authToken, flag)
+                .andExpect(status().isCreated());
+
+        getFlag(mockMvc, authToken, "normalized-flag")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.variants.one").value("1"))
+                .andExpect(jsonPath("$.targeting").value("{\"if\":[{\"==\":[{\"var\":\"email\"},\"a@example.com\"]},\"two\",null]}"));
+
+        deleteFlag(mockMvc, authToken, "normalized-flag");
+    }
 }
@@ -0,0 +1,139 @@
+package org.flagd.hub.config.server.repositories;
+
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.repositories.changelog.ChangeLogRepository;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagRepository;
+import org.flagd.hub.config.server.storage.FlagMutation;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createStringFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagMutationRepositoryTest extends AbstractIntegrationTest {
+    private static final String FLAG_KEY = "flag-mutation-flag";
+    private static final String OTHER_FLAG_KEY = "flag-mutation-other-flag";
+
+    @Autowired
+    private FlagMutationRepository flagMutationRepository;
+
+    @Autowired
+    private FeatureFlagRepository featureFlagRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @BeforeEach
+    void setUp() {
+        FeatureFlag flag = createStringFlag(FLAG_KEY, "v1", Map.of("v1", "version1", "v2", "version2"));
+        flagMutationRepository.create(new FeatureFlagEntity(FLAG_KEY, flag));
+    }
+
+    @AfterEach
+    void tearDown() {
+        flagMutationRepository.delete(FLAG_KEY);
+    }
+
+    @Test
+    @DisplayName("Created flag is readable through the entity repository")
+    void create_StoresFlagReadableByRepository() {
+        FeatureFlag stored = featureFlagRepository.findById(FLAG_KEY).orElseThrow().getValue();
+
+        assertEquals("v1", stored.getDefaultVariant());
+        assertEquals(Map.of("v1", "version1", "v2", "version2"), stored.getVariants());
+    }
+
+    @Test
+    @DisplayName("Updating the default variant changes the flag and records the changelog event")
+    void updateDefaultVariant_WithExistingVariant_UpdatesFlagAndChangelog() {
+        ChangelogEvent event = flagMutationRepository.updateDefaultVariant(FLAG_KEY, "v2").orElseThrow();
+
+        FeatureFlag stored = featureFlagRepository.findById(FLAG_KEY).orElseThrow().getValue();
+        assertEquals("v2", stored.getDefaultVariant());
+        assertTrue(stored.getWasChanged());
+        assertEquals("v1", event.getPreviousVariant());
+        assertEquals(List.of(event), changeLogRepository.findEvents(FLAG_KEY));
+        assertEquals(event, changeLogRepository.findLatestEvents().get(FLAG_KEY));
+    }
+
+    @Test
+    @DisplayName("Updating to an unknown variant or flag changes nothing")
+    void updateDefaultVariant_WithUnknownVariant_ReturnsEmpty() {
+        assertEquals(Optional.empty(), flagMutationRepository.updateDefaultVariant(FLAG_KEY, "v3"));
+        assertEquals(Optional.empty(), flagMutationRepository.updateDefaultVariant("missing-flag", "v1"));
+
+        assertEquals("v1", featureFlagRepository.findById(FLAG_KEY).orElseThrow().getValue().getDefaultVariant());
+        assertTrue(changeLogRepository.findEvents(FLAG_KEY).isEmpty());
+        assertTrue(featureFlagRepository.findById("missing-flag").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Concurrent updates are applied one after another without lost changelog events")
+    void updateDefaultVariant_Concurrently_RecordsEveryChange() throws Exception {
+        int updates = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<ChangelogEvent>>> results = IntStream.range(0, updates)
+                    .mapToObj(i -> executor.submit(() -> flagMutationRepository.updateDefaultVariant(FLAG_KEY, i % 2 == 0 ? "v2" : "v1")))
+                    .toList();
+            for (Future<Optional<ChangelogEvent>> result : results) {
+                assertTrue(result.get().isPresent());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<ChangelogEvent> events = changeLogRepository.findEvents(FLAG_KEY);
+        assertEquals(updates, events.size());
+        assertEquals("v1", events.get(0).getPreviousVariant());
+        for (int i = 1; i < events.size(); i++) {
+            assertEquals(events.get(i - 1).getUpdatedVariant(), events.get(i).getPreviousVariant());
+        }
+        assertEquals(events.get(updates - 1).getUpdatedVariant(),
+                featureFlagRepository.findById(FLAG_KEY).orElseThrow().getValue().getDefaultVariant());
+    }
+
+    @Test
+    @DisplayName("applyAll applies mutations in order and reports which were applied")
+    void applyAll_WithMixedMutations_AppliesInOrder() {
+        FeatureFlag otherFlag = createStringFlag(OTHER_FLAG_KEY, "v1", Map.of("v1", "version1"));
+
+        List<Boolean> applied = flagMutationRepository.applyAll(List.of(
+                new FlagMutation.Create(otherFlag),
+                new FlagMutation.UpdateDefaultVariant(FLAG_KEY, "v2"),
+                new FlagMutation.UpdateDefaultVariant(OTHER_FLAG_KEY, "v2"),
+                new FlagMutation.Delete(OTHER_FLAG_KEY),
+                new FlagMutation.Delete(OTHER_FLAG_KEY)));
+
+        assertEquals(List.of(true, true, false, true, false), applied);
+        assertEquals("v2", featureFlagRepository.findById(FLAG_KEY).orElseThrow().getValue().getDefaultVariant());
+        assertTrue(featureFlagRepository.findById(OTHER_FLAG_KEY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deleting removes the flag and its changelog")
+    void delete_RemovesFlagAndChangelog() {
+        flagMutationRepository.updateDefaultVariant(FLAG_KEY, "v2");
+
+        assertTrue(flagMutationRepository.delete(FLAG_KEY));
+
+        assertTrue(featureFlagRepository.findById(FLAG_KEY).isEmpty());
+        assertTrue(changeLogRepository.findEvents(FLAG_KEY).isEmpty());
+        assertFalse(changeLogRepository.findLatestEvents().containsKey(FLAG_KEY));
+        assertFalse(flagMutationRepository.delete(FLAG_KEY));
+    }
+}
@@ -0,0 +1,84 @@
+package org.flagd.hub.config.server.repositories;
+
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.repositories.changelog.ChangelogEvents;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisBulkLoaderTest extends AbstractIntegrationTest {
+    private static final int FLAG_COUNT = RedisBulkLoader.BATCH_SIZE + 10;
+
+    @Autowired
+    private RedisBulkLoader redisBulkLoader;
+
+    @Autowired
+    private CrudRepository<FeatureFlagEntity, String> featureFlagsRepository;
+
+    @Autowired
+    private RedisKeyValueTemplate redisKeyValueTemplate;
+
+    @AfterEach
+    void tearDown() {
+        IntStream.range(0, FLAG_COUNT).forEach(i -> featureFlagsRepository.deleteById(flagKey(i)));
+        redisKeyValueTemplate.delete("bulk-changelog-flag", ChangelogEvents.class);
+    }
+
+    @Test
+    @DisplayName("findAll loads every flag across pipelined batches with all fields intact")
+    void findAll_WithMoreFlagsThanBatchSize_LoadsAllFlags() {
+        IntStream.range(0, FLAG_COUNT).forEach(i -> {
+            FeatureFlag flag = createBooleanFlag(flagKey(i), "on")
+                    .area("bulk")
+                    .targeting("{\"if\":[true,\"off\"]}");
+            featureFlagsRepository.save(new FeatureFlagEntity(flag.getKey(), flag));
+        });
+
+        List<FeatureFlag> loaded = redisBulkLoader.findAll(FeatureFlagEntity.class).stream()
+                .map(FeatureFlagEntity::getValue)
+                .filter(flag -> flag.getKey().startsWith("bulk-loader-flag-"))
+                .toList();
+
+        assertEquals(FLAG_COUNT, loaded.size());
+        FeatureFlag flag = loaded.get(0);
+        assertEquals(FeatureFlag.TypeEnum.BOOLEAN, flag.getType());
+        assertEquals(Map.of("on", "true", "off", "false"), flag.getVariants());
+        assertEquals("on", flag.getDefaultVariant());
+        assertEquals("bulk", flag.getArea());
+        assertEquals("{\"if\":[true,\"off\"]}", flag.getTargeting());
+    }
+
+    @Test
+    @DisplayName("findAll loads changelogs with their event lists")
+    void findAll_WithChangelogs_LoadsEvents() {
+        ChangelogEvents changelogEvents = new ChangelogEvents("bulk-changelog-flag");
+        changelogEvents.getChangelogEventsList().add(
+                new ChangelogEvent().previousVariant("on").updatedVariant("off").timestamp(1L));
+        redisKeyValueTemplate.insert("bulk-changelog-flag", changelogEvents);
+
+        ChangelogEvents loaded = redisBulkLoader.findAll(ChangelogEvents.class).stream()
+                .filter(events -> events.getFlagKey().equals("bulk-changelog-flag"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(1, loaded.getChangelogEventsList().size());
+        assertEquals("off", loaded.getChangelogEventsList().get(0).getUpdatedVariant());
+    }
+
+    private static String flagKey(int i) {
+        return "bulk-loader-flag-" + i;
+    }
+}
@@ -0,0 +1,130 @@
+package org.flagd.hub.config.server.repositories.changelog;
+
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogRepositoryTest extends AbstractIntegrationTest {
+    private static final String FLAG_KEY = "changelog-repository-flag";
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private LegacyChangelogMigration legacyChangelogMigration;
+
+    @Autowired
+    private RedisKeyValueTemplate redisKeyValueTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        changeLogRepository.deleteById(FLAG_KEY);
+        redisKeyValueTemplate.delete(FLAG_KEY, ChangelogEvents.class);
+    }
+
+    @Test
+    @DisplayName("Appended events are returned in order with their stream timestamps")
+    void append_MultipleEvents_ReturnsEventsInOrder() {
+        ChangelogEvent first = changeLogRepository.append(FLAG_KEY, "v1", "v2");
+        ChangelogEvent second = changeLogRepository.append(FLAG_KEY, "v2", "v3");
+
+        List<ChangelogEvent> events = changeLogRepository.findEvents(FLAG_KEY);
+
+        assertEquals(List.of(first, second), events);
+        assertNotNull(first.getTimestamp());
+        assertTrue(second.getTimestamp() >= first.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("findEvents returns only events within the time range")
+    void findEvents_WithTimeRange_ReturnsEventsInRange() {
+        changeLogRepository.appendAll(FLAG_KEY, List.of(
+                new ChangelogEvent().previousVariant("v1").updatedVariant("v2").timestamp(1000L),
+                new ChangelogEvent().previousVariant("v2").updatedVariant("v3").timestamp(2000L),
+                new ChangelogEvent().previousVariant("v3").updatedVariant("v1").timestamp(3000L)));
+
+        ChangelogPage page = changeLogRepository.findEvents(FLAG_KEY, 1500L, 3000L, null, 1);
+
+        assertEquals(List.of(2000L), page.events().stream().map(ChangelogEvent::getTimestamp).toList());
+        assertNotNull(page.nextCursor());
+
+        ChangelogPage nextPage = changeLogRepository.findEvents(FLAG_KEY, 1500L, 3000L, page.nextCursor(), 1);
+
+        assertEquals(List.of(3000L), nextPage.events().stream().map(ChangelogEvent::getTimestamp).toList());
+        assertNull(nextPage.nextCursor());
+    }
+
+    @Test
+    @DisplayName("findAll returns the changelog of every flag with events")
+    void findAll_ReturnsChangelogsOfAllFlags() {
+        changeLogRepository.append(FLAG_KEY, "v1", "v2");
+
+        ChangelogEvents changelogEvents = changeLogRepository.findAll().stream()
+                .filter(changelog -> changelog.getFlagKey().equals(FLAG_KEY))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals("v2", changelogEvents.getChangelogEventsList().get(0).getUpdatedVariant());
+    }
+
+    @Test
+    @DisplayName("findLatestEvents returns the most recent event of each flag")
+    void findLatestEvents_AfterMultipleAppends_ReturnsLatestEvent() {
+        changeLogRepository.append(FLAG_KEY, "v1", "v2");
+        ChangelogEvent latest = changeLogRepository.append(FLAG_KEY, "v2", "v3");
+
+        assertEquals(latest, changeLogRepository.findLatestEvents().get(FLAG_KEY));
+    }
+
+    @Test
+    @DisplayName("Streams without a latest-event entry are indexed from their last stream entry")
+    void indexMissingLatestEvents_WithUnindexedStream_IndexesLastEvent() {
+        changeLogRepository.append(FLAG_KEY, "v1", "v2");
+        ChangelogEvent latest = changeLogRepository.append(FLAG_KEY, "v2", "v3");
+        stringRedisTemplate.opsForHash().delete(ChangeLogRepository.LATEST_EVENTS_KEY, FLAG_KEY);
+
+        assertTrue(changeLogRepository.indexMissingLatestEvents() >= 1);
+        assertEquals(latest, changeLogRepository.findLatestEvents().get(FLAG_KEY));
+    }
+
+    @Test
+    @DisplayName("deleteById removes the flag changelog")
+    void deleteById_RemovesEvents() {
+        changeLogRepository.append(FLAG_KEY, "v1", "v2");
+
+        changeLogRepository.deleteById(FLAG_KEY);
+
+        assertTrue(changeLogRepository.findEvents(FLAG_KEY).isEmpty());
+        assertFalse(changeLogRepository.findLatestEvents().containsKey(FLAG_KEY));
+        assertTrue(changeLogRepository.findAll().stream().noneMatch(changelog -> changelog.getFlagKey().equals(FLAG_KEY)));
+    }
+
+    @Test
+    @DisplayName("Legacy changelog hashes are migrated to streams keeping their timestamps")
+    void migrate_WithLegacyChangelog_MovesEventsToStream() {
+        ChangelogEvents legacy = new ChangelogEvents(FLAG_KEY);
+        legacy.getChangelogEventsList().add(new ChangelogEvent().previousVariant("v1").updatedVariant("v2").timestamp(1000L));
+        legacy.getChangelogEventsList().add(new ChangelogEvent().previousVariant("v2").updatedVariant("v3").timestamp(1000L));
+        legacy.getChangelogEventsList().add(new ChangelogEvent().previousVariant("v3").updatedVariant("v1").timestamp(2000L));
+        redisKeyValueTemplate.insert(FLAG_KEY, legacy);
+
+        legacyChangelogMigration.migrate();
+
+        assertEquals(legacy.getChangelogEventsList(), changeLogRepository.findEvents(FLAG_KEY));
+        assertEquals(legacy.getChangelogEventsList().get(2), changeLogRepository.findLatestEvents().get(FLAG_KEY));
+        assertTrue(redisKeyValueTemplate.findById(FLAG_KEY, ChangelogEvents.class).isEmpty());
+    }
+}
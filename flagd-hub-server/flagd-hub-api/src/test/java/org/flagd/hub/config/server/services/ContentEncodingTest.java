@@ -0,0 +1,42 @@
+package org.flagd.hub.config.server.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEncodingTest {
+
+    @Test
+    @DisplayName("gzip is negotiated when accepted explicitly or through a wildcard")
+    void negotiate_WhenGzipAccepted_ReturnsGzip() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip"));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("br, gzip;q=0.8, deflate"));
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("*"));
+    }
+
+    @Test
+    @DisplayName("identity is negotiated when gzip is missing or refused")
+    void negotiate_WhenGzipNotAccepted_ReturnsIdentity() {
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate(null));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("br, deflate"));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("gzip;q=0"));
+        assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("gzip;q=0, *"));
+    }
+
+    @Test
+    @DisplayName("gzip encoding round-trips the original content")
+    void encode_WithGzip_ProducesDecompressibleContent() throws Exception {
+        byte[] content = "{\"flags\":{\"flag\":{\"state\":\"ENABLED\"}}}".getBytes(StandardCharsets.UTF_8);
+
+        byte[] compressed = ContentEncoding.GZIP.encode(content);
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(content, gzip.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.flagd.hub.config.server.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createIntegerFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagExportServiceTest {
+    private InMemoryFlagStorage flagStorage;
+    private FlagExportService flagExportService;
+
+    @BeforeEach
+    void setUp() {
+        flagStorage = new InMemoryFlagStorage();
+        for (int i = 0; i < FlagExportService.BATCH_SIZE + 10; i++) {
+            flagStorage.create(createBooleanFlag("export-flag-" + i, "on").area("bulk"));
+        }
+        flagStorage.create(FlagNormalizer.normalize(createIntegerFlag("export-limit", "small", Map.of("small", "10", "large", "1000"))
+                .area("limits")
+                .targeting("{\"if\": [{\"==\": [{\"var\": \"plan\"}, \"pro\"]}, \"large\", \"small\"]}")));
+        flagExportService = new FlagExportService(flagStorage);
+    }
+
+    @Test
+    @DisplayName("JSON export contains every flag across batches in flagd format")
+    void export_AsJson_WritesAllBatches() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int exported = flagExportService.export(output, FlagExportService.Format.JSON, null);
+
+        JsonNode flags = new ObjectMapper().readTree(output.toByteArray()).get("flags");
+        assertEquals(FlagExportService.BATCH_SIZE + 11, exported);
+        assertEquals(exported, flags.size());
+        assertEquals("ENABLED", flags.at("/export-flag-0/state").asText());
+        assertTrue(flags.at("/export-flag-0/variants/on").isBoolean());
+        assertEquals(1000, flags.at("/export-limit/variants/large").asInt());
+        assertEquals("pro", flags.at("/export-limit/targeting/if/0/==/1").asText());
+    }
+
+    @Test
+    @DisplayName("YAML export of one area contains its flags with parsed variants and targeting")
+    void export_AsYamlWithArea_WritesAreaFlags() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int exported = flagExportService.export(output, FlagExportService.Format.YAML, "limits");
+
+        JsonNode flags = new YAMLMapper().readTree(output.toByteArray()).get("flags");
+        assertEquals(1, exported);
+        assertEquals(1, flags.size());
+        assertEquals("small", flags.at("/export-limit/defaultVariant").asText());
+        assertEquals(10, flags.at("/export-limit/variants/small").asInt());
+        assertTrue(flags.at("/export-limit/variants/small").isInt());
+        assertEquals("large", flags.at("/export-limit/targeting/if/1").asText());
+    }
+}
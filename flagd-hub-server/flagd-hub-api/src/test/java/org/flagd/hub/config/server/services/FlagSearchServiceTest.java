@@ -0,0 +1,62 @@
+package org.flagd.hub.config.server.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flagd.hub.config.server.events.FlagsChangedEvent;
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FlagSearchServiceTest {
+    private InMemoryFlagStorage flagStorage;
+    private FlagSearchService flagSearchService;
+
+    @BeforeEach
+    void setUp() {
+        flagStorage = spy(new InMemoryFlagStorage());
+        flagStorage.create(createBooleanFlag("checkout-redesign", "on").name("New checkout").description("Redesigned payment page"));
+        flagStorage.create(createBooleanFlag("dark-mode", "on").name("Dark mode").description("Dark theme for the checkout"));
+        flagStorage.create(createBooleanFlag("payment-retries", "on").name("Payment retries").description("Retry failed payments"));
+        flagSearchService = new FlagSearchService(flagStorage, new SimpleMeterRegistry());
+        flagSearchService.onApplicationReady();
+    }
+
+    @Test
+    @DisplayName("Search matches word prefixes, requires every word and ranks key matches first")
+    void search_WithPrefixes_ReturnsRankedMatches() {
+        assertEquals(List.of("checkout-redesign", "dark-mode"), keys(flagSearchService.search("check", 10)));
+        assertEquals(List.of("payment-retries", "checkout-redesign"), keys(flagSearchService.search("PAYMENT", 10)));
+        assertEquals(List.of("dark-mode"), keys(flagSearchService.search("dark checkout", 10)));
+        assertEquals(List.of("checkout-redesign"), keys(flagSearchService.search("check", 1)));
+        assertEquals(List.of(), keys(flagSearchService.search("dark payment", 10)));
+        assertEquals(List.of(), keys(flagSearchService.search("--", 10)));
+        verify(flagStorage, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Changed flags are re-indexed and deleted flags removed without rebuilding the index")
+    void onFlagsChanged_UpdatesIndexIncrementally() {
+        flagStorage.create(createBooleanFlag("dark-mode", "on").name("Night theme").description(null));
+        flagStorage.delete("payment-retries");
+        flagSearchService.onFlagsChanged(new FlagsChangedEvent(Set.of("dark-mode", "payment-retries")));
+
+        assertEquals(List.of("checkout-redesign"), keys(flagSearchService.search("checkout", 10)));
+        assertEquals(List.of("dark-mode"), keys(flagSearchService.search("night", 10)));
+        assertEquals(List.of("checkout-redesign"), keys(flagSearchService.search("payment", 10)));
+        verify(flagStorage, times(1)).findAll();
+        verify(flagStorage, times(1)).findByKeys(Set.of("dark-mode", "payment-retries"));
+        verify(flagStorage, never()).findByKey(anyString());
+    }
+
+    private static List<String> keys(List<FeatureFlag> flags) {
+        return flags.stream().map(FeatureFlag::getKey).toList();
+    }
+}
@@ -0,0 +1,99 @@
+package org.flagd.hub.config.server.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.repositories.FlagMutationRepository;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagEntity;
+import org.flagd.hub.config.server.repositories.featureflags.FeatureFlagRepository;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagSeedServiceTest extends AbstractIntegrationTest {
+    private static final String FLAG_KEY_PREFIX = "seed-flag-";
+
+    @Autowired
+    private FlagSeedService flagSeedService;
+
+    @Autowired
+    private FlagMutationRepository flagMutationRepository;
+
+    @Autowired
+    private FeatureFlagRepository featureFlagRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<String> seededKeys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        seededKeys.forEach(flagMutationRepository::delete);
+    }
+
+    @Test
+    @DisplayName("Seeding writes missing flags across batches and keeps existing ones untouched")
+    void seed_WithExistingAndDuplicateFlags_OnlyCreatesMissingFlags() throws Exception {
+        int flagCount = FlagSeedService.BATCH_SIZE + 10;
+        List<FeatureFlag> flags = new ArrayList<>(IntStream.range(0, flagCount)
+                .mapToObj(i -> createBooleanFlag(FLAG_KEY_PREFIX + i, "on"))
+                .toList());
+        flags.add(createBooleanFlag(FLAG_KEY_PREFIX + 0, "off"));
+        flags.forEach(flag -> seededKeys.add(flag.getKey()));
+        flagMutationRepository.create(new FeatureFlagEntity(FLAG_KEY_PREFIX + 1, createBooleanFlag(FLAG_KEY_PREFIX + 1, "off")));
+
+        Path seedFile = tempDir.resolve("feature-flags.json");
+        Files.write(seedFile, objectMapper.writeValueAsBytes(flags));
+
+        FlagSeedService.SeedResult result = flagSeedService.seed(seedFile);
+
+        assertEquals(flagCount + 1, result.read());
+        assertEquals(flagCount - 1, result.created());
+        assertEquals(2, result.skipped());
+        assertEquals("on", featureFlagRepository.findById(FLAG_KEY_PREFIX + 0).orElseThrow().getValue().getDefaultVariant());
+        assertEquals("off", featureFlagRepository.findById(FLAG_KEY_PREFIX + 1).orElseThrow().getValue().getDefaultVariant());
+        assertTrue(featureFlagRepository.existsById(FLAG_KEY_PREFIX + (flagCount - 1)));
+    }
+
+    @Test
+    @DisplayName("Seeding skips array elements that are not objects and keeps the flags after them")
+    void seed_WithNonObjectElements_SkipsThemAndSeedsTheRest() throws Exception {
+        seededKeys.add(FLAG_KEY_PREFIX + "before");
+        seededKeys.add(FLAG_KEY_PREFIX + "after");
+        Path seedFile = tempDir.resolve("feature-flags.json");
+        Files.writeString(seedFile, "[" + objectMapper.writeValueAsString(createBooleanFlag(FLAG_KEY_PREFIX + "before", "on"))
+                + ", null, 42, [\"nested\"], "
+                + objectMapper.writeValueAsString(createBooleanFlag(FLAG_KEY_PREFIX + "after", "on")) + "]");
+
+        FlagSeedService.SeedResult result = flagSeedService.seed(seedFile);
+
+        assertEquals(5, result.read());
+        assertEquals(2, result.created());
+        assertEquals(3, result.skipped());
+        assertTrue(featureFlagRepository.existsById(FLAG_KEY_PREFIX + "after"));
+    }
+
+    @Test
+    @DisplayName("Seeding from a missing file creates nothing")
+    void seed_WithMissingFile_CreatesNothing() {
+        FlagSeedService.SeedResult result = flagSeedService.seed(tempDir.resolve("missing.json"));
+
+        assertEquals(0, result.read());
+        assertEquals(0, result.created());
+    }
+}
@@ -0,0 +1,137 @@
+package org.flagd.hub.config.server.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.config.server.events.FlagsChangedEvent;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FlagdConfigurationServiceTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FlagStorage flagStorage;
+    private FlagdConfigurationService flagdConfigurationService;
+
+    @BeforeEach
+    void setUp() {
+        flagStorage = mock(FlagStorage.class);
+        flagdConfigurationService = new FlagdConfigurationService(flagStorage, mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Snapshot is served from memory until flags change")
+    void getSnapshot_WithoutChanges_DoesNotReadRepositoryAgain() {
+        when(flagStorage.findAll()).thenReturn(List.of(createBooleanFlag("flag", "on")));
+
+        FlagdConfigurationSnapshot first = flagdConfigurationService.getSnapshot();
+        FlagdConfigurationSnapshot second = flagdConfigurationService.getSnapshot();
+
+        assertSame(first, second);
+        verify(flagStorage, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Snapshot is rebuilt with a new revision when flags change")
+    void onFlagsChanged_RebuildsSnapshotWithNewRevision() throws Exception {
+        when(flagStorage.findAll()).thenReturn(List.of(createBooleanFlag("flag", "on")));
+        FlagdConfigurationSnapshot first = flagdConfigurationService.getSnapshot();
+
+        when(flagStorage.findByKeys(Set.of("flag"))).thenReturn(Map.of("flag", createBooleanFlag("flag", "off")));
+        flagdConfigurationService.onFlagsChanged(FlagsChangedEvent.of("flag"));
+        FlagdConfigurationSnapshot second = flagdConfigurationService.getSnapshot();
+
+        assertTrue(second.getRevision() > first.getRevision());
+        JsonNode configuration = objectMapper.readTree(second.getContent());
+        assertEquals("off", configuration.at("/flags/flag/defaultVariant").asText());
+        assertTrue(configuration.at("/flags/flag/variants/on").asBoolean());
+    }
+
+    @Test
+    @DisplayName("A failed rebuild drops the snapshot so the next read rebuilds it, without failing the change")
+    void onFlagsChanged_WithStorageError_RebuildsOnNextRead() throws Exception {
+        when(flagStorage.findAll()).thenReturn(List.of(createBooleanFlag("flag", "on").area("payments")));
+        FlagdConfigurationSnapshot first = flagdConfigurationService.getSnapshot();
+        assertNotNull(flagdConfigurationService.getSnapshot("area:payments"));
+        assertNotNull(flagdConfigurationService.getCachedSnapshot("area:payments"));
+
+        when(flagStorage.findByKeys(Set.of("new-flag"))).thenThrow(new IllegalStateException("storage unavailable"));
+        assertDoesNotThrow(() -> flagdConfigurationService.onFlagsChanged(FlagsChangedEvent.of("new-flag")));
+        assertNull(flagdConfigurationService.getCachedSnapshot(null));
+        assertNull(flagdConfigurationService.getCachedSnapshot("area:payments"));
+
+        when(flagStorage.findAll()).thenReturn(List.of(createBooleanFlag("flag", "on").area("payments"), createBooleanFlag("new-flag", "on")));
+        FlagdConfigurationSnapshot rebuilt = flagdConfigurationService.getSnapshot();
+
+        assertTrue(rebuilt.getRevision() > first.getRevision());
+        assertTrue(objectMapper.readTree(rebuilt.getContent()).at("/flags/new-flag").isObject());
+    }
+
+    @Test
+    @DisplayName("Snapshot rebuild only reads and converts the flags that changed")
+    void onFlagsChanged_ConvertsOnlyChangedFlags() throws Exception {
+        when(flagStorage.findAll()).thenReturn(List.of(
+                createBooleanFlag("flag-a", "on"), createBooleanFlag("flag-b", "on"), createBooleanFlag("flag-c", "on")));
+        flagdConfigurationService.getSnapshot();
+
+        when(flagStorage.findByKeys(Set.of("flag-b", "flag-c"))).thenReturn(Map.of("flag-b", createBooleanFlag("flag-b", "off")));
+        flagdConfigurationService.onFlagsChanged(new FlagsChangedEvent(Set.of("flag-b", "flag-c")));
+
+        verify(flagStorage, times(1)).findAll();
+        verify(flagStorage, times(1)).findByKeys(Set.of("flag-b", "flag-c"));
+        verify(flagStorage, never()).findByKey(anyString());
+        JsonNode configuration = objectMapper.readTree(flagdConfigurationService.getSnapshot().getContent());
+        assertEquals(List.of("flag-a", "flag-b"), configuration.get("flags").properties().stream().map(Map.Entry::getKey).toList());
+        assertEquals("on", configuration.at("/flags/flag-a/defaultVariant").asText());
+        assertEquals("off", configuration.at("/flags/flag-b/defaultVariant").asText());
+    }
+
+    @Test
+    @DisplayName("Normalized variants and targeting are served as typed JSON")
+    void getSnapshot_WritesTypedVariantsAndTargeting() throws Exception {
+        when(flagStorage.findAll()).thenReturn(List.of(FlagNormalizer.normalize(new FeatureFlag()
+                .key("object-flag")
+                .type(FeatureFlag.TypeEnum.OBJECT)
+                .defaultVariant("compact")
+                .variants(Map.of("compact", "{\"columns\": 2}", "wide", "[6]"))
+                .targeting("{\"if\": [true, \"wide\", null]}"))));
+
+        JsonNode configuration = objectMapper.readTree(flagdConfigurationService.getSnapshot().getContent());
+
+        assertEquals(2, configuration.at("/flags/object-flag/variants/compact/columns").asInt());
+        assertEquals(6, configuration.at("/flags/object-flag/variants/wide/0").asInt());
+        assertEquals("wide", configuration.at("/flags/object-flag/targeting/if/1").asText());
+    }
+
+    @Test
+    @DisplayName("Area snapshots are cached until a flag of the area changes")
+    void getSnapshot_WithAreaSelector_IsInvalidatedByChangesInTheArea() throws Exception {
+        when(flagStorage.findAll()).thenReturn(List.of(
+                createBooleanFlag("payments-flag", "on").area("payments"), createBooleanFlag("checkout-flag", "on").area("checkout")));
+        FlagdConfigurationSnapshot payments = flagdConfigurationService.getSnapshot("area:payments");
+        FlagdConfigurationSnapshot checkout = flagdConfigurationService.getSnapshot("area:checkout");
+
+        when(flagStorage.findByKeys(Set.of("checkout-flag"))).thenReturn(Map.of("checkout-flag", createBooleanFlag("checkout-flag", "on").area("payments")));
+        flagdConfigurationService.onFlagsChanged(FlagsChangedEvent.of("checkout-flag"));
+
+        assertNotSame(payments, flagdConfigurationService.getSnapshot("area:payments"));
+        assertNotSame(checkout, flagdConfigurationService.getSnapshot("area:checkout"));
+        JsonNode configuration = objectMapper.readTree(flagdConfigurationService.getSnapshot("area:payments").getContent());
+        assertEquals(List.of("checkout-flag", "payments-flag"), configuration.get("flags").properties().stream().map(Map.Entry::getKey).toList());
+        assertTrue(objectMapper.readTree(flagdConfigurationService.getSnapshot("area:checkout").getContent()).get("flags").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> flagdConfigurationService.getSnapshot("area:"));
+    }
+}
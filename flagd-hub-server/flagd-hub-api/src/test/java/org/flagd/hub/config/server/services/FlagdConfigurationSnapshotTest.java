@@ -0,0 +1,47 @@
+package org.flagd.hub.config.server.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagdConfigurationSnapshotTest {
+    private final FlagdConfigurationSnapshot snapshot =
+            FlagdConfigurationSnapshot.of(1, "{\"flags\":{}}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("ETag is a quoted content hash and identical content yields identical ETags")
+    void getEtag_IsDerivedFromContent() {
+        FlagdConfigurationSnapshot sameContent =
+                FlagdConfigurationSnapshot.of(2, "{\"flags\":{}}".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(snapshot.getEtag().startsWith("\"") && snapshot.getEtag().endsWith("\""));
+        assertEquals(snapshot.getEtag(), sameContent.getEtag());
+    }
+
+    @Test
+    @DisplayName("If-None-Match matches exact, weak, wildcard and listed ETags")
+    void matches_WithMatchingHeaderValues_ReturnsTrue() {
+        assertTrue(snapshot.matches(snapshot.getEtag()));
+        assertTrue(snapshot.matches("W/" + snapshot.getEtag()));
+        assertTrue(snapshot.matches("*"));
+        assertTrue(snapshot.matches("\"other\", " + snapshot.getEtag()));
+    }
+
+    @Test
+    @DisplayName("Each encoding has its own ETag and If-None-Match accepts any of them")
+    void getEtag_PerEncoding_DiffersAndMatches() {
+        assertNotEquals(snapshot.getEtag(ContentEncoding.IDENTITY), snapshot.getEtag(ContentEncoding.GZIP));
+        assertTrue(snapshot.matches(snapshot.getEtag(ContentEncoding.GZIP)));
+    }
+
+    @Test
+    @DisplayName("If-None-Match does not match missing or different ETags")
+    void matches_WithOtherHeaderValues_ReturnsFalse() {
+        assertFalse(snapshot.matches(null));
+        assertFalse(snapshot.matches(""));
+        assertFalse(snapshot.matches("\"other\""));
+    }
+}
@@ -0,0 +1,42 @@
+package org.flagd.hub.config.server.services;
+
+import org.flagd.hub.config.server.storage.memory.InMemoryFlagStorage;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LegacyFlagNormalizationTest {
+    private final InMemoryFlagStorage flagStorage = spy(new InMemoryFlagStorage());
+
+    @Test
+    @DisplayName("Legacy flags are normalized, malformed values are replaced and normalized flags kept")
+    void normalize_RewritesLegacyFlags() {
+        flagStorage.create(createBooleanFlag("normalized-flag", "on"));
+        flagStorage.create(createBooleanFlag("legacy-flag", "on")
+                .variants(Map.of("on", "TRUE", "off", "false"))
+                .targeting("{\n  \"if\": [true, \"off\", null]\n}"));
+        flagStorage.create(new FeatureFlag()
+                .key("broken-flag")
+                .type(FeatureFlag.TypeEnum.OBJECT)
+                .defaultVariant("a")
+                .variants(Map.of("a", "{\"columns\": 2}", "b", "{broken"))
+                .targeting("{\"if\": ["));
+
+        new LegacyFlagNormalization(flagStorage).normalize();
+
+        verify(flagStorage).applyAll(argThat(rewrites -> rewrites.size() == 2
+                && rewrites.stream().noneMatch(rewrite -> rewrite.flagKey().equals("normalized-flag"))));
+        FeatureFlag legacy = flagStorage.findByKey("legacy-flag").orElseThrow();
+        assertEquals("true", legacy.getVariants().get("on"));
+        assertEquals("{\"if\":[true,\"off\",null]}", legacy.getTargeting());
+        FeatureFlag broken = flagStorage.findByKey("broken-flag").orElseThrow();
+        assertEquals(Map.of("a", "{\"columns\":2}", "b", "{}"), broken.getVariants());
+        assertNull(broken.getTargeting());
+    }
+}
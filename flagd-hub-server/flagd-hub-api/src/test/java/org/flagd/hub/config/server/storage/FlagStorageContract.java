@@ -0,0 +1,190 @@
+package org.flagd.hub.config.server.storage;
+
+import org.flagd.hub.rest.model.ChangelogEvent;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createStringFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link FlagStorage} engine must share, run by the test of each engine.
+ */
+public interface FlagStorageContract {
+    String FLAG_KEY = "storage-contract-flag";
+    String OTHER_FLAG_KEY = "storage-contract-other-flag";
+
+    FlagStorage storage();
+
+    @AfterEach
+    default void deleteContractFlags() {
+        storage().delete(FLAG_KEY);
+        storage().delete(OTHER_FLAG_KEY);
+    }
+
+    private static FeatureFlag flag(String flagKey) {
+        return createStringFlag(flagKey, "v1", Map.of("v1", "version1", "v2", "version2"));
+    }
+
+    @Test
+    @DisplayName("Created flags are found by key, by existence and in the full list")
+    default void create_ThenFlagIsReadable() {
+        storage().create(flag(FLAG_KEY));
+
+        assertEquals("v1", storage().findByKey(FLAG_KEY).orElseThrow().getDefaultVariant());
+        assertEquals(Set.of(FLAG_KEY), storage().findExistingKeys(List.of(FLAG_KEY, OTHER_FLAG_KEY)));
+        assertTrue(storage().findAll().stream().anyMatch(flag -> flag.getKey().equals(FLAG_KEY)));
+    }
+
+    @Test
+    @DisplayName("Flags are read by many keys at once, skipping the keys that do not exist")
+    default void findByKeys_WithMissingKey_ReturnsExistingFlags() {
+        storage().create(flag(FLAG_KEY));
+
+        Map<String, FeatureFlag> found = storage().findByKeys(List.of(FLAG_KEY, OTHER_FLAG_KEY));
+
+        assertEquals(Set.of(FLAG_KEY), found.keySet());
+        assertEquals("v1", found.get(FLAG_KEY).getDefaultVariant());
+        assertTrue(storage().findByKeys(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Updating the default variant changes the flag and records the changelog event")
+    default void updateDefaultVariant_WithExistingVariant_RecordsEvent() {
+        storage().create(flag(FLAG_KEY));
+
+        ChangelogEvent event = storage().updateDefaultVariant(FLAG_KEY, "v2").orElseThrow();
+
+        FeatureFlag updated = storage().findByKey(FLAG_KEY).orElseThrow();
+        assertEquals("v2", updated.getDefaultVariant());
+        assertTrue(updated.getWasChanged());
+        assertEquals("v1", event.getPreviousVariant());
+        assertEquals(List.of(event), storage().findEvents(FLAG_KEY, null, null, null, null).events());
+        assertEquals(event, storage().findLatestEvents().get(FLAG_KEY));
+    }
+
+    @Test
+    @DisplayName("Updating an unknown flag or variant changes nothing")
+    default void updateDefaultVariant_WithUnknownVariant_ReturnsEmpty() {
+        storage().create(flag(FLAG_KEY));
+
+        assertEquals(Optional.empty(), storage().updateDefaultVariant(FLAG_KEY, "v3"));
+        assertEquals(Optional.empty(), storage().updateDefaultVariant(OTHER_FLAG_KEY, "v1"));
+        assertEquals("v1", storage().findByKey(FLAG_KEY).orElseThrow().getDefaultVariant());
+        assertTrue(storage().findEvents(FLAG_KEY, null, null, null, null).events().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Changelog pages follow each other through the cursor and honour the time range")
+    default void findEvents_WithLimitAndRange_ReturnsPages() {
+        storage().create(flag(FLAG_KEY));
+        storage().updateDefaultVariant(FLAG_KEY, "v2");
+        storage().updateDefaultVariant(FLAG_KEY, "v1");
+        ChangelogEvent last = storage().updateDefaultVariant(FLAG_KEY, "v2").orElseThrow();
+
+        ChangelogPage firstPage = storage().findEvents(FLAG_KEY, null, null, null, 2);
+        ChangelogPage secondPage = storage().findEvents(FLAG_KEY, null, null, firstPage.nextCursor(), 2);
+
+        assertEquals(List.of("v2", "v1"), firstPage.events().stream().map(ChangelogEvent::getUpdatedVariant).toList());
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(List.of(last), secondPage.events());
+        assertNull(secondPage.nextCursor());
+        assertTrue(storage().findEvents(FLAG_KEY, last.getTimestamp() + 1, null, null, null).events().isEmpty());
+        assertEquals(3, storage().findEvents(FLAG_KEY, null, last.getTimestamp(), null, null).events().size());
+        assertThrows(IllegalArgumentException.class, () -> storage().findEvents(FLAG_KEY, null, null, "not-a-cursor", null));
+    }
+
+    @Test
+    @DisplayName("Flag pages are filtered, ordered by key and follow each other through the cursor")
+    default void findPage_WithFiltersAndLimit_ReturnsPages() {
+        storage().create(flag(FLAG_KEY).area("storage-contract"));
+        storage().create(flag(OTHER_FLAG_KEY).area("storage-contract"));
+        storage().updateDefaultVariant(OTHER_FLAG_KEY, "v2");
+
+        FlagPage firstPage = storage().findPage(new FlagQuery(null, null, null, "storage-contract-", false, null, 1));
+        FlagPage secondPage = storage().findPage(new FlagQuery(null, null, null, "storage-contract-", false, firstPage.nextCursor(), 1));
+
+        assertEquals(List.of(FLAG_KEY), keys(firstPage));
+        assertNotNull(firstPage.nextCursor());
+        assertEquals(List.of(OTHER_FLAG_KEY), keys(secondPage));
+        assertNull(secondPage.nextCursor());
+        assertEquals(List.of(OTHER_FLAG_KEY, FLAG_KEY), keys(storage().findPage(
+                new FlagQuery("storage-contract", FeatureFlag.TypeEnum.STRING, null, null, true, null, null))));
+        assertEquals(List.of(OTHER_FLAG_KEY), keys(storage().findPage(
+                new FlagQuery("storage-contract", null, true, null, false, null, null))));
+        assertEquals(List.of(FLAG_KEY), keys(storage().findPage(
+                new FlagQuery("storage-contract", null, false, null, false, null, null))));
+        assertEquals(List.of(), keys(storage().findPage(
+                new FlagQuery("storage-contract", FeatureFlag.TypeEnum.BOOLEAN, null, null, false, null, null))));
+        assertThrows(IllegalArgumentException.class, () -> storage().findPage(
+                new FlagQuery(null, null, null, null, false, "not a cursor", null)));
+
+        // replacing and deleting flags moves them out of the indexes
+        storage().create(flag(FLAG_KEY).area("storage-contract-moved"));
+        storage().delete(OTHER_FLAG_KEY);
+        assertEquals(List.of(), keys(storage().findPage(new FlagQuery("storage-contract", null, null, null, false, null, null))));
+        assertEquals(List.of(FLAG_KEY), keys(storage().findPage(
+                new FlagQuery("storage-contract-moved", null, false, null, false, null, null))));
+    }
+
+    @Test
+    @DisplayName("Flag pages skip flags that match the read index but not the other filters")
+    default void findPage_WithFiltersOfSeveralIndexes_SkipsNonMatchingFlags() {
+        storage().create(flag(FLAG_KEY).area("storage-contract"));
+        storage().create(flag(OTHER_FLAG_KEY).area("storage-contract"));
+        storage().updateDefaultVariant(FLAG_KEY, "v2");
+
+        FlagPage unchangedPage = storage().findPage(new FlagQuery("storage-contract", null, false, null, false, null, 1));
+        FlagPage changedPage = storage().findPage(new FlagQuery(null, null, true, "storage-contract-", false, null, 1));
+
+        assertEquals(List.of(OTHER_FLAG_KEY), keys(unchangedPage));
+        assertNull(unchangedPage.nextCursor());
+        assertEquals(List.of(FLAG_KEY), keys(changedPage));
+        assertNull(changedPage.nextCursor());
+        assertEquals(List.of(OTHER_FLAG_KEY), keys(storage().findPage(
+                new FlagQuery(null, null, false, "storage-contract-", true, null, null))));
+        assertEquals(List.of(), keys(storage().findPage(new FlagQuery("storage-contract", FeatureFlag.TypeEnum.STRING, true,
+                null, false, FlagQuery.encodeCursor(FLAG_KEY), null))));
+    }
+
+    private static List<String> keys(FlagPage page) {
+        return page.flags().stream().map(FeatureFlag::getKey).toList();
+    }
+
+    @Test
+    @DisplayName("Deleting removes the flag and its changelog")
+    default void delete_RemovesFlagAndChangelog() {
+        storage().create(flag(FLAG_KEY));
+        storage().updateDefaultVariant(FLAG_KEY, "v2");
+
+        assertTrue(storage().delete(FLAG_KEY));
+
+        assertTrue(storage().findByKey(FLAG_KEY).isEmpty());
+        assertTrue(storage().findEvents(FLAG_KEY, null, null, null, null).events().isEmpty());
+        assertFalse(storage().findLatestEvents().containsKey(FLAG_KEY));
+        assertFalse(storage().delete(FLAG_KEY));
+    }
+
+    @Test
+    @DisplayName("applyAll applies mutations in order and reports which were applied")
+    default void applyAll_WithMixedMutations_AppliesInOrder() {
+        List<Boolean> applied = storage().applyAll(List.of(
+                new FlagMutation.Create(flag(FLAG_KEY)),
+                new FlagMutation.Create(flag(OTHER_FLAG_KEY)),
+                new FlagMutation.UpdateDefaultVariant(FLAG_KEY, "v2"),
+                new FlagMutation.UpdateDefaultVariant(FLAG_KEY, "v3"),
+                new FlagMutation.Delete(OTHER_FLAG_KEY),
+                new FlagMutation.Delete(OTHER_FLAG_KEY)));
+
+        assertEquals(List.of(true, true, true, false, true, false), applied);
+        assertEquals("v2", storage().findByKey(FLAG_KEY).orElseThrow().getDefaultVariant());
+        assertTrue(storage().findByKey(OTHER_FLAG_KEY).isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+package org.flagd.hub.config.server.storage.file;
+
+import org.flagd.hub.config.server.storage.ChangelogPage;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.config.server.storage.FlagStorageContract;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileFlagStorageTest implements FlagStorageContract {
+    @TempDir
+    Path directory;
+
+    private FileFlagStorage fileFlagStorage;
+
+    @BeforeEach
+    void openStorage() throws IOException {
+        fileFlagStorage = open();
+    }
+
+    @Override
+    @AfterEach
+    public void deleteContractFlags() {
+        FlagStorageContract.super.deleteContractFlags();
+        try {
+            fileFlagStorage.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public FlagStorage storage() {
+        return fileFlagStorage;
+    }
+
+    private FileFlagStorage open() throws IOException {
+        return new FileFlagStorage(directory, Duration.ZERO, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Flags and changelogs written before a crash are replayed from the log")
+    void open_AfterCrash_ReplaysLog() throws IOException {
+        fileFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+        fileFlagStorage.updateDefaultVariant(FLAG_KEY, "off");
+        ChangelogPage events = fileFlagStorage.findEvents(FLAG_KEY, null, null, null, null);
+
+        // the storage is not closed, as if the process died
+        FileFlagStorage recovered = open();
+
+        FeatureFlag flag = recovered.findByKey(FLAG_KEY).orElseThrow();
+        assertEquals("off", flag.getDefaultVariant());
+        assertTrue(flag.getWasChanged());
+        assertEquals(events, recovered.findEvents(FLAG_KEY, null, null, null, null));
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("A snapshot replaces the log it covers, and later writes are replayed on top of it")
+    void open_AfterSnapshot_LoadsSnapshotAndLogTail() throws IOException {
+        fileFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+        fileFlagStorage.updateDefaultVariant(FLAG_KEY, "off");
+        fileFlagStorage.snapshot();
+        fileFlagStorage.create(createBooleanFlag(OTHER_FLAG_KEY, "on"));
+        fileFlagStorage.delete(FLAG_KEY);
+        fileFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+        fileFlagStorage.updateDefaultVariant(FLAG_KEY, "off");
+        ChangelogPage events = fileFlagStorage.findEvents(FLAG_KEY, null, null, null, null);
+
+        FileFlagStorage recovered = open();
+
+        assertEquals(1, countFiles("snapshot-"));
+        assertEquals(1, countFiles("wal-"));
+        assertEquals(2, recovered.findAll().size());
+        assertEquals(events, recovered.findEvents(FLAG_KEY, null, null, null, null));
+        assertEquals(1, events.events().size());
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("A torn write at the end of the log is cut off and writing continues after it")
+    void open_WithTornLogTail_TruncatesIt() throws IOException {
+        fileFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+        Path segment = directory.resolve("wal-0.log");
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        FileFlagStorage recovered = open();
+        recovered.updateDefaultVariant(FLAG_KEY, "off");
+
+        assertTrue(Files.size(segment) > validSize);
+        recovered.close();
+        FileFlagStorage reopened = open();
+        assertEquals("off", reopened.findByKey(FLAG_KEY).orElseThrow().getDefaultVariant());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Closing writes a snapshot, so the next start has no log to replay")
+    void close_WithWrites_WritesSnapshot() throws IOException {
+        fileFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+
+        fileFlagStorage.close();
+        fileFlagStorage = open();
+
+        assertEquals(1, countFiles("snapshot-"));
+        assertEquals(0, Files.size(directory.resolve("wal-1.log")));
+        assertTrue(fileFlagStorage.findByKey(FLAG_KEY).isPresent());
+    }
+
+    private long countFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+}
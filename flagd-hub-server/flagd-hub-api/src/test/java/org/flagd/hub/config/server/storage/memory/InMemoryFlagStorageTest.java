@@ -0,0 +1,77 @@
+package org.flagd.hub.config.server.storage.memory;
+
+import org.flagd.hub.config.server.storage.FlagPage;
+import org.flagd.hub.config.server.storage.FlagQuery;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.config.server.storage.FlagStorageContract;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.flagd.hub.config.server.utils.FlagTestHelper.createBooleanFlag;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryFlagStorageTest implements FlagStorageContract {
+    private final InMemoryFlagStorage inMemoryFlagStorage = new InMemoryFlagStorage();
+
+    @Override
+    public FlagStorage storage() {
+        return inMemoryFlagStorage;
+    }
+
+    @Test
+    @DisplayName("The list of all flags is shared between reads until the next write")
+    void findAll_WithoutWrites_ReturnsSameSnapshot() {
+        inMemoryFlagStorage.create(createBooleanFlag(FLAG_KEY, "on"));
+
+        List<FeatureFlag> first = inMemoryFlagStorage.findAll();
+
+        assertSame(first, inMemoryFlagStorage.findAll());
+        inMemoryFlagStorage.updateDefaultVariant(FLAG_KEY, "off");
+        assertNotSame(first, inMemoryFlagStorage.findAll());
+        assertEquals("on", first.get(0).getDefaultVariant());
+    }
+
+    @Test
+    @DisplayName("Stored flags are copies that callers cannot change afterwards")
+    void create_ThenModifyingInput_DoesNotChangeStoredFlag() {
+        FeatureFlag flag = createBooleanFlag(FLAG_KEY, "on");
+        inMemoryFlagStorage.create(flag);
+
+        flag.setDefaultVariant("off");
+
+        assertEquals("on", inMemoryFlagStorage.findByKey(FLAG_KEY).orElseThrow().getDefaultVariant());
+    }
+
+    @Test
+    @DisplayName("Listings never miss a flag while its default variant is updated")
+    void findPage_DuringDefaultVariantUpdates_AlwaysContainsFlag() {
+        inMemoryFlagStorage.create(createBooleanFlag(FLAG_KEY, "on").area("storage-contract"));
+        AtomicBoolean reading = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; reading.get(); i++) {
+                inMemoryFlagStorage.updateDefaultVariant(FLAG_KEY, i % 2 == 0 ? "off" : "on");
+            }
+        });
+
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                assertEquals(List.of(FLAG_KEY), keys(inMemoryFlagStorage.findPage(
+                        new FlagQuery("storage-contract", null, null, null, false, null, null))));
+                assertEquals(List.of(FLAG_KEY), keys(inMemoryFlagStorage.findPage(
+                        new FlagQuery(null, null, null, FLAG_KEY, false, null, null))));
+            }
+        } finally {
+            reading.set(false);
+            writer.join();
+        }
+    }
+
+    private static List<String> keys(FlagPage page) {
+        return page.flags().stream().map(FeatureFlag::getKey).toList();
+    }
+}
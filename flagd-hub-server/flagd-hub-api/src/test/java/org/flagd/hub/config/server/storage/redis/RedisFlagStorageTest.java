@@ -0,0 +1,17 @@
+package org.flagd.hub.config.server.storage.redis;
+
+import org.flagd.hub.config.server.AbstractIntegrationTest;
+import org.flagd.hub.config.server.storage.FlagStorage;
+import org.flagd.hub.config.server.storage.FlagStorageContract;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RedisFlagStorageTest extends AbstractIntegrationTest implements FlagStorageContract {
+
+    @Autowired
+    private RedisFlagStorage redisFlagStorage;
+
+    @Override
+    public FlagStorage storage() {
+        return redisFlagStorage;
+    }
+}
@@ -1,6 +1,8 @@
 package org.flagd.hub.config.server.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flagd.hub.rest.model.BulkFlagOperation;
+import org.flagd.hub.rest.model.BulkFlagOperationsRequest;
 import org.flagd.hub.rest.model.ChangeDefaultVariantRequest;
 import org.flagd.hub.rest.model.FeatureFlag;
 import org.springframework.http.HttpHeaders;
@@ -8,6 +10,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -75,6 +78,15 @@ public class FlagTestHelper {
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken));
     }
 
+    public static ResultActions applyFlagOperations(MockMvc mockMvc, ObjectMapper objectMapper, String authToken, BulkFlagOperation... operations) throws Exception {
+        BulkFlagOperationsRequest request = new BulkFlagOperationsRequest().operations(List.of(operations));
+
+        return mockMvc.perform(post("/flagd-hub/flags/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
     public static ResultActions getAllFlags(MockMvc mockMvc, String authToken) throws Exception {
         return mockMvc.perform(get("/flagd-hub/flags")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + authToken));
@@ -0,0 +1,77 @@
+package org.flagd.hub.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of {@link FeatureFlag} lists, as done by the management API,
+ * the flag seeding and the file storage engine. The binary formats are the ones the management API
+ * negotiates besides JSON; the payload size of each is printed on setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FeatureFlagSerializationBenchmark {
+    private static final TypeReference<List<FeatureFlag>> FLAG_LIST = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int flagCount;
+
+    @Param({"MIXED"})
+    public FlagSets.FlagTypes flagTypes;
+
+    @Param({"NONE", "LARGE"})
+    public FlagSets.Targeting targeting;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Format format;
+
+    public enum Format {
+        JSON(new ObjectMapper()),
+        CBOR(new CBORMapper()),
+        SMILE(new SmileMapper());
+
+        private final ObjectMapper mapper;
+
+        Format(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+    }
+
+    private List<FeatureFlag> flags;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void generateFlags() throws IOException {
+        flags = FlagSets.generate(flagCount, flagTypes, targeting);
+        payload = format.mapper.writeValueAsBytes(flags);
+        System.out.printf("%n%s payload of %d flags: %d bytes%n", format, flagCount, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serializeFlags() throws IOException {
+        return format.mapper.writeValueAsBytes(flags);
+    }
+
+    @Benchmark
+    public List<FeatureFlag> deserializeFlags() throws IOException {
+        return format.mapper.readValue(payload, FLAG_LIST);
+    }
+}
@@ -0,0 +1,61 @@
+package org.flagd.hub.benchmarks;
+
+import org.flagd.hub.config.server.services.FlagSearchIndex;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flag search: a word that few flags contain, a prefix of such words, and a word every
+ * generated flag contains, which has to rank the whole catalog. Plus re-indexing one changed flag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlagSearchIndexBenchmark {
+    private static final int RESULTS = 20;
+
+    @Param({"1000", "100000"})
+    public int flagCount;
+
+    private final FlagSearchIndex index = new FlagSearchIndex();
+    private List<FeatureFlag> flags;
+    private int changedFlag;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        flags = FlagSets.generate(flagCount, FlagSets.FlagTypes.MIXED, FlagSets.Targeting.NONE);
+        index.rebuild(flags);
+    }
+
+    @Benchmark
+    public List<FeatureFlag> searchSelectiveWord() {
+        return index.search("42", RESULTS);
+    }
+
+    @Benchmark
+    public List<FeatureFlag> searchPrefix() {
+        return index.search("benchmark 99", RESULTS);
+    }
+
+    @Benchmark
+    public List<FeatureFlag> searchCommonWord() {
+        return index.search("synthetic", RESULTS);
+    }
+
+    @Benchmark
+    public void reindexChangedFlag() {
+        changedFlag = (changedFlag + 1) % flags.size();
+        index.put(flags.get(changedFlag));
+    }
+}
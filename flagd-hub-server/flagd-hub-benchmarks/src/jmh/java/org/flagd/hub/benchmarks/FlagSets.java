@@ -0,0 +1,140 @@
+package org.flagd.hub.benchmarks;
+
+import org.flagd.hub.config.server.converters.FlagNormalizer;
+import org.flagd.hub.rest.model.FeatureFlag;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic flag catalogs, shaped like the flags the UI creates: targeting is sent as
+ * pretty-printed JSON text and variants as strings, whatever the flag type. Flags are
+ * returned normalized, the way the hub stores them.
+ */
+public final class FlagSets {
+    /**
+     * Flag type of a generated set, MIXED cycles through every {@link FeatureFlag.TypeEnum}.
+     */
+    public enum FlagTypes {
+        BOOLEAN, STRING, INTEGER, DOUBLE, OBJECT, MIXED
+    }
+
+    public enum Targeting {
+        /** no targeting rule */
+        NONE,
+        /** a single equality check */
+        SMALL,
+        /** fifty nested conditions with list lookups */
+        LARGE
+    }
+
+    private static final int LARGE_TARGETING_CONDITIONS = 50;
+
+    private FlagSets() {
+    }
+
+    public static List<FeatureFlag> generate(int flagCount, FlagTypes flagTypes, Targeting targeting) {
+        FeatureFlag.TypeEnum[] types = FeatureFlag.TypeEnum.values();
+        List<FeatureFlag> flags = new ArrayList<>(flagCount);
+        for (int i = 0; i < flagCount; i++) {
+            FeatureFlag.TypeEnum type = flagTypes == FlagTypes.MIXED
+                    ? types[i % types.length]
+                    : FeatureFlag.TypeEnum.valueOf(flagTypes.name());
+            flags.add(flag("benchmark-flag-" + i, type, targeting));
+        }
+
+        return flags;
+    }
+
+    public static FeatureFlag flag(String key, FeatureFlag.TypeEnum type, Targeting targeting) {
+        Map<String, String> variants = variants(type);
+        List<String> variantNames = List.copyOf(variants.keySet());
+
+        return FlagNormalizer.normalize(new FeatureFlag()
+                .key(key)
+                .name("Benchmark flag " + key)
+                .area("area-" + Math.floorMod(key.hashCode(), 20))
+                .description("Synthetic " + type + " flag used by the benchmarks")
+                .type(type)
+                .variants(variants)
+                .defaultVariant(variantNames.get(0))
+                .targeting(targeting(targeting, variantNames.get(0), variantNames.get(1)))
+                .creationTime(1_700_000_000_000L)
+                .wasChanged(false));
+    }
+
+    private static Map<String, String> variants(FeatureFlag.TypeEnum type) {
+        Map<String, String> variants = new LinkedHashMap<>();
+        switch (type) {
+            case BOOLEAN -> {
+                variants.put("on", "true");
+                variants.put("off", "false");
+            }
+            case STRING -> {
+                variants.put("blue", "the blue theme");
+                variants.put("green", "the green theme");
+                variants.put("red", "the red theme");
+            }
+            case INTEGER -> {
+                variants.put("small", "10");
+                variants.put("medium", "100");
+                variants.put("large", "1000");
+            }
+            case DOUBLE -> {
+                variants.put("low", "0.05");
+                variants.put("high", "0.95");
+            }
+            case OBJECT -> {
+                variants.put("compact", "{\"columns\": 2, \"dense\": true, \"labels\": [\"a\", \"b\"]}");
+                variants.put("wide", "{\"columns\": 6, \"dense\": false, \"labels\": [\"a\", \"b\", \"c\"]}");
+            }
+        }
+
+        return variants;
+    }
+
+    private static String targeting(Targeting targeting, String matchVariant, String otherVariant) {
+        return switch (targeting) {
+            case NONE -> null;
+            case SMALL -> """
+                    {
+                      "if": [
+                        { "==": [{ "var": "email" }, "admin@example.com"] },
+                        "%s",
+                        "%s"
+                      ]
+                    }""".formatted(matchVariant, otherVariant);
+            case LARGE -> largeTargeting(matchVariant, otherVariant);
+        };
+    }
+
+    private static String largeTargeting(String matchVariant, String otherVariant) {
+        StringBuilder conditions = new StringBuilder();
+        for (int i = 0; i < LARGE_TARGETING_CONDITIONS; i++) {
+            if (i > 0) {
+                conditions.append(",\n");
+            }
+            conditions.append("""
+                        {
+                          "and": [
+                            { "in": [{ "var": "country" }, ["DE", "FR", "NL", "SE", "US-%d"]] },
+                            { ">=": [{ "var": "accountAge" }, %d] },
+                            { "starts_with": [{ "var": "email" }, "team-%d"] }
+                          ]
+                        }""".formatted(i, i * 10, i));
+        }
+
+        return """
+                {
+                  "if": [
+                    { "or": [
+                %s
+                    ] },
+                    "%s",
+                    "%s"
+                  ]
+                }""".formatted(conditions, matchVariant, otherVariant);
+    }
+}
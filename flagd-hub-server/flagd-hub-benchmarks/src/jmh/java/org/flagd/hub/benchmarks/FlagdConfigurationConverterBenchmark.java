@@ -0,0 +1,70 @@
+package org.flagd.hub.benchmarks;
+
+import org.flagd.hub.config.server.converters.FlagdConfigurationConverter;
+import org.flagd.hub.rest.model.FeatureFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The flagd sync path: converting every stored flag to the flagd document, as on startup,
+ * and what a rebuild after a single change costs, converting that flag again and
+ * reassembling the document from the cached fragments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlagdConfigurationConverterBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int flagCount;
+
+    @Param
+    public FlagSets.FlagTypes flagTypes;
+
+    @Param
+    public FlagSets.Targeting targeting;
+
+    private List<FeatureFlag> flags;
+    private List<byte[]> fragments;
+    private int changedFlag;
+
+    @Setup(Level.Trial)
+    public void generateFlags() {
+        flags = FlagSets.generate(flagCount, flagTypes, targeting);
+        fragments = flags.stream()
+                .map(FlagdConfigurationConverter::convertToFragment)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] convertToFlagdFormat() {
+        return FlagdConfigurationConverter.convertToFlagdFormat(flags);
+    }
+
+    @Benchmark
+    public byte[] assembleFragments() {
+        return FlagdConfigurationConverter.assemble(fragments);
+    }
+
+    /**
+     * What a snapshot rebuild after one flag changed costs before it is encoded and hashed.
+     */
+    @Benchmark
+    public byte[] convertChangedFlagAndAssemble(Blackhole blackhole) {
+        changedFlag = (changedFlag + 1) % flags.size();
+        blackhole.consume(FlagdConfigurationConverter.convertToFragment(flags.get(changedFlag)));
+        return FlagdConfigurationConverter.assemble(fragments);
+    }
+}
@@ -0,0 +1,89 @@
+package org.flagd.hub.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An admin writer, toggling the default variant of its flags in turn through
+ * {@code PUT /insecure/flags/{flagKey}}.
+ */
+final class FlagWriter implements Runnable {
+    private final HttpClient httpClient;
+    private final LoadTestOptions options;
+    private final List<String> flagKeys;
+    private final Map<String, List<String>> variantsByFlag;
+    private final Supplier<RequestStatistics> statistics;
+    private final PropagationTracker propagationTracker;
+    private volatile boolean running = true;
+
+    /**
+     * @param flagKeys the flags this writer owns, no other writer toggles them
+     * @param variantsByFlag variants of every flag, in the order they are written
+     */
+    FlagWriter(HttpClient httpClient, LoadTestOptions options, List<String> flagKeys,
+               Map<String, List<String>> variantsByFlag, Supplier<RequestStatistics> statistics,
+               PropagationTracker propagationTracker) {
+        this.httpClient = httpClient;
+        this.options = options;
+        this.flagKeys = flagKeys;
+        this.variantsByFlag = variantsByFlag;
+        this.statistics = statistics;
+        this.propagationTracker = propagationTracker;
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        for (long round = 0; running; round++) {
+            long startNanos = System.nanoTime();
+            String flagKey = flagKeys.get((int) (round % flagKeys.size()));
+            List<String> variants = variantsByFlag.get(flagKey);
+            write(flagKey, variants.get((int) ((round / flagKeys.size()) % variants.size())));
+
+            long sleepMillis = (startNanos + options.writeInterval().toNanos() - System.nanoTime()) / 1_000_000;
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void write(String flagKey, String variant) {
+        URI uri = options.baseUrl().resolve("/insecure/flags/" + URLEncoder.encode(flagKey, StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"defaultVariant\":\"" + variant + "\"}"))
+                .build();
+
+        long writeSequence = propagationTracker.writing(flagKey, variant);
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            statistics.get().record(String.valueOf(response.statusCode()), System.nanoTime() - startNanos);
+            if (response.statusCode() != 202) {
+                propagationTracker.cancel(flagKey, writeSequence);
+            }
+        } catch (IOException e) {
+            propagationTracker.cancel(flagKey, writeSequence);
+            statistics.get().recordFailure(e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            propagationTracker.cancel(flagKey, writeSequence);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
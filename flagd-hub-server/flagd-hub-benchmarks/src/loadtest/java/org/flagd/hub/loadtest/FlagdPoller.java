@@ -0,0 +1,93 @@
+package org.flagd.hub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One simulated flagd instance, polling the flagd configuration at a fixed interval.
+ * Like flagd, it never has two polls in flight: a slow response delays the next poll.
+ */
+final class FlagdPoller {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final URI configurationUri;
+    private final LoadTestOptions options;
+    private final Supplier<RequestStatistics> statistics;
+    private final PropagationTracker propagationTracker;
+    private final PropagationTracker.Observer observer = new PropagationTracker.Observer();
+    private volatile boolean running = true;
+    private String etag;
+
+    FlagdPoller(HttpClient httpClient, ScheduledExecutorService scheduler, LoadTestOptions options,
+                Supplier<RequestStatistics> statistics, PropagationTracker propagationTracker) {
+        this.httpClient = httpClient;
+        this.scheduler = scheduler;
+        this.configurationUri = options.baseUrl().resolve("/flagd/flags");
+        this.options = options;
+        this.statistics = statistics;
+        this.propagationTracker = propagationTracker;
+    }
+
+    /**
+     * Starts polling after the given delay, so a fleet does not poll in lockstep.
+     */
+    void start(Duration initialDelay) {
+        scheduler.schedule(this::poll, initialDelay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    private void poll() {
+        if (!running) {
+            return;
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(configurationUri).GET();
+        if (options.conditional() && etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        long startNanos = System.nanoTime();
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, failure) -> {
+                    long receivedNanos = System.nanoTime();
+                    if (failure != null) {
+                        statistics.get().recordFailure(failure.getClass().getSimpleName());
+                    } else {
+                        statistics.get().record(String.valueOf(response.statusCode()), receivedNanos - startNanos);
+                        if (response.statusCode() == 200) {
+                            handleConfiguration(response, startNanos, receivedNanos);
+                        }
+                    }
+
+                    long nextPollNanos = startNanos + options.pollInterval().toNanos() - System.nanoTime();
+                    if (running) {
+                        scheduler.schedule(this::poll, Math.max(0, nextPollNanos), TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private void handleConfiguration(HttpResponse<byte[]> response, long startNanos, long receivedNanos) {
+        etag = response.headers().firstValue("ETag").orElse(null);
+        try {
+            JsonNode flags = OBJECT_MAPPER.readTree(response.body()).path("flags");
+            propagationTracker.observe(observer, flags, startNanos, receivedNanos);
+        } catch (IOException e) {
+            statistics.get().recordFailure("invalid-json");
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.flagd.hub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Simulates a fleet of flagd instances polling a running hub while admins toggle flags, and reports
+ * throughput, latency percentiles and how long writes take to reach the fleet.
+ * The writers toggle flags that already exist on the hub, for example seeded from
+ * {@code FEATURE_FLAGS_JSON_PATH}, and leave them with a different default variant.
+ */
+public final class LoadTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final AtomicReference<RequestStatistics> pollStatistics = new AtomicReference<>(new RequestStatistics());
+    private final AtomicReference<RequestStatistics> writeStatistics = new AtomicReference<>(new RequestStatistics());
+    private final PropagationTracker propagationTracker = new PropagationTracker();
+
+    private LoadTest(LoadTestOptions options, ExecutorService httpExecutor) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            new LoadTest(options, httpExecutor).run();
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Map<String, List<String>> variantsByFlag = discoverFlags();
+        if (variantsByFlag.isEmpty()) {
+            System.err.println("no flag with at least two variants found at " + options.baseUrl()
+                    + ", seed some flags first, for example with FEATURE_FLAGS_JSON_PATH");
+            System.exit(1);
+        }
+
+        List<String> flagKeys = new ArrayList<>(variantsByFlag.keySet());
+        int writerCount = Math.min(options.writers(), flagKeys.size());
+        System.out.printf("flagd-hub load test against %s: %d pollers every %d ms (%s), %d writers every %d ms on %d flags, %d s after %d s warmup%n",
+                options.baseUrl(), options.pollers(), options.pollInterval().toMillis(),
+                options.conditional() ? "conditional" : "unconditional", writerCount,
+                options.writeInterval().toMillis(), flagKeys.size(), options.duration().toSeconds(), options.warmup().toSeconds());
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        List<FlagdPoller> pollers = new ArrayList<>();
+        for (int i = 0; i < options.pollers(); i++) {
+            FlagdPoller poller = new FlagdPoller(httpClient, scheduler, options, pollStatistics::get, propagationTracker);
+            poller.start(Duration.ofNanos(ThreadLocalRandom.current().nextLong(Math.max(1, options.pollInterval().toNanos()))));
+            pollers.add(poller);
+        }
+
+        List<FlagWriter> writers = new ArrayList<>();
+        for (int i = 0; i < writerCount; i++) {
+            List<String> ownFlags = new ArrayList<>();
+            for (int flag = i; flag < flagKeys.size(); flag += writerCount) {
+                ownFlags.add(flagKeys.get(flag));
+            }
+            FlagWriter writer = new FlagWriter(httpClient, options, ownFlags, variantsByFlag, writeStatistics::get, propagationTracker);
+            Thread thread = new Thread(writer, "flag-writer-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            writers.add(writer);
+        }
+
+        long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+        long end = warmupEnd + options.duration().toNanos();
+        boolean measuring = false;
+        long measurementStart = warmupEnd;
+        while (System.nanoTime() < end) {
+            long now = System.nanoTime();
+            if (!measuring && now >= warmupEnd) {
+                pollStatistics.set(new RequestStatistics());
+                writeStatistics.set(new RequestStatistics());
+                propagationTracker.reset();
+                measuring = true;
+                measurementStart = now;
+            }
+
+            long sleepNanos = Math.min(PROGRESS_INTERVAL.toNanos(), (measuring ? end : warmupEnd) - now);
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, sleepNanos));
+            printProgress(measuring, System.nanoTime() - (measuring ? measurementStart : warmupEnd - options.warmup().toNanos()));
+        }
+
+        double seconds = (System.nanoTime() - measurementStart) / 1e9;
+        RequestStatistics polls = pollStatistics.get();
+        RequestStatistics writes = writeStatistics.get();
+        Histogram propagationDelays = propagationTracker.delays();
+        pollers.forEach(FlagdPoller::stop);
+        writers.forEach(FlagWriter::stop);
+        scheduler.shutdown();
+        scheduler.awaitTermination(options.pollInterval().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+
+        System.out.println();
+        report("polls", polls, seconds);
+        report("writes", writes, seconds);
+        System.out.printf("propagation delay (write sent to change seen by a poller): %d samples%n",
+                propagationDelays.getTotalCount());
+        printPercentiles(propagationDelays);
+    }
+
+    /**
+     * @return for every flag with at least two variants, its variants starting after the current default
+     */
+    private Map<String, List<String>> discoverFlags() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(options.baseUrl().resolve("/flagd/flags")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET /flagd/flags returned " + response.statusCode());
+        }
+
+        Map<String, List<String>> variantsByFlag = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> flags = OBJECT_MAPPER.readTree(response.body()).path("flags").fields();
+        while (flags.hasNext() && variantsByFlag.size() < options.flags()) {
+            Map.Entry<String, JsonNode> flag = flags.next();
+            List<String> variants = new ArrayList<>();
+            flag.getValue().path("variants").fieldNames().forEachRemaining(variants::add);
+            if (variants.size() < 2) {
+                continue;
+            }
+
+            // the first write changes the flag, so every write is observable by the pollers
+            int defaultIndex = variants.indexOf(flag.getValue().path("defaultVariant").asText());
+            Collections.rotate(variants, -(defaultIndex + 1));
+            variantsByFlag.put(flag.getKey(), List.copyOf(variants));
+        }
+
+        return variantsByFlag;
+    }
+
+    private void printProgress(boolean measuring, long elapsedNanos) {
+        System.out.printf("%s %3d s: %d polls, %d writes%n", measuring ? "measuring" : "warming up",
+                TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), pollStatistics.get().count(), writeStatistics.get().count());
+    }
+
+    private static void report(String name, RequestStatistics statistics, double seconds) {
+        System.out.printf("%s: %d (%.1f/s), outcomes %s%n", name, statistics.count(), statistics.count() / seconds,
+                statistics.outcomes());
+        printPercentiles(statistics.latencies());
+    }
+
+    private static void printPercentiles(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            System.out.println("  no samples");
+            return;
+        }
+
+        System.out.printf("  ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,57 @@
+package org.flagd.hub.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Load test settings, read from {@code loadTest.*} system properties.
+ *
+ * @param baseUrl hub to test, serving both {@code /flagd/flags} and {@code /insecure/flags}
+ * @param pollers simulated flagd instances
+ * @param pollInterval time between two polls of the same flagd instance
+ * @param conditional whether pollers send the last ETag in If-None-Match, like a caching sidecar
+ * @param writers concurrent admin writers
+ * @param writeInterval time between two writes of the same writer
+ * @param flags maximum number of existing flags the writers toggle
+ * @param duration how long to poll and write, after the warmup
+ * @param warmup time to run before recording
+ */
+record LoadTestOptions(URI baseUrl, int pollers, Duration pollInterval, boolean conditional, int writers,
+                       Duration writeInterval, int flags, Duration duration, Duration warmup) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                URI.create(property("baseUrl", "http://localhost:8090")),
+                Integer.parseInt(property("pollers", "100")),
+                duration(property("pollInterval", "1s")),
+                Boolean.parseBoolean(property("conditional", "true")),
+                Integer.parseInt(property("writers", "2")),
+                duration(property("writeInterval", "500ms")),
+                Integer.parseInt(property("flags", "20")),
+                duration(property("duration", "60s")),
+                duration(property("warmup", "10s")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    /**
+     * Parses durations like {@code 250ms}, {@code 5s} or {@code 2m}.
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+
+        throw new IllegalArgumentException("unsupported duration " + value + ", use ms, s or m");
+    }
+}
@@ -0,0 +1,80 @@
+package org.flagd.hub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long a write takes to reach each poller: the time from sending a write to the
+ * first response of a poller that shows the written default variant.
+ * Only responses to polls sent after the write count, so a poller that missed an earlier write
+ * toggling the flag to the same variant does not report the later write as seen.
+ */
+final class PropagationTracker {
+    private final Map<String, Write> latestWrites = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile Histogram delays = newHistogram();
+
+    private record Write(long sequence, String variant, long startNanos) {
+    }
+
+    /**
+     * What one poller has already seen; a poller never has two polls in flight, so it needs no locking.
+     */
+    static final class Observer {
+        private final Map<String, Long> seenSequences = new HashMap<>();
+    }
+
+    /**
+     * Registers a write before it is sent.
+     * @return the token to pass to {@link #cancel} if the write is rejected
+     */
+    long writing(String flagKey, String variant) {
+        long writeSequence = sequence.incrementAndGet();
+        latestWrites.put(flagKey, new Write(writeSequence, variant, System.nanoTime()));
+        return writeSequence;
+    }
+
+    void cancel(String flagKey, long writeSequence) {
+        latestWrites.computeIfPresent(flagKey, (key, write) -> write.sequence() == writeSequence ? null : write);
+    }
+
+    /**
+     * @param flags the {@code flags} object of a flagd configuration
+     * @param requestStartNanos when the poll was sent
+     */
+    void observe(Observer observer, JsonNode flags, long requestStartNanos, long receivedNanos) {
+        latestWrites.forEach((flagKey, write) -> {
+            if (write.startNanos() > requestStartNanos
+                    || observer.seenSequences.getOrDefault(flagKey, 0L) >= write.sequence()) {
+                return;
+            }
+
+            JsonNode defaultVariant = flags.path(flagKey).path("defaultVariant");
+            if (write.variant().equals(defaultVariant.asText())) {
+                observer.seenSequences.put(flagKey, write.sequence());
+                delays.recordValue(Math.max(0, receivedNanos - write.startNanos()));
+            }
+        });
+    }
+
+    /**
+     * Drops what was recorded so far, at the end of the warmup.
+     */
+    void reset() {
+        delays = newHistogram();
+    }
+
+    Histogram delays() {
+        return delays;
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(3);
+    }
+}
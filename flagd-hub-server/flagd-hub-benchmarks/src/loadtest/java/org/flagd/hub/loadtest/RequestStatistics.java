@@ -0,0 +1,43 @@
+package org.flagd.hub.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one kind of request, safe to record from any thread.
+ */
+final class RequestStatistics {
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * @param outcome the status code, or the kind of failure
+     */
+    void record(String outcome, long latencyNanos) {
+        latencies.recordValue(latencyNanos);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    void recordFailure(String failure) {
+        outcomes.computeIfAbsent(failure, key -> new LongAdder()).increment();
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long count() {
+        return outcomes.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    Map<String, Long> outcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,14 @@
+package org.flagd.hub.grpc;
+
+/**
+ * Supplies the current flagd configuration document served to sync clients.
+ */
+@FunctionalInterface
+public interface FlagConfigurationSource {
+    /**
+     * @param selector the selector of the sync request, empty for the whole configuration
+     * @return the flagd configuration as a JSON string
+     * @throws IllegalArgumentException if the selector is not supported
+     */
+    String getFlagConfiguration(String selector);
+}
@@ -0,0 +1,55 @@
+package org.flagd.hub.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Standalone gRPC server exposing {@link FlagSyncService} on a plain-text port.
+ */
+@Log4j2
+public class FlagSyncServer {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final FlagSyncService flagSyncService;
+    private final Server server;
+
+    public FlagSyncServer(int port, FlagSyncService flagSyncService) {
+        this.flagSyncService = flagSyncService;
+        this.server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                .addService(flagSyncService)
+                .build();
+    }
+
+    public void start() {
+        try {
+            server.start();
+            log.info("flagd gRPC sync server listening on port {}", server.getPort());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed starting flagd gRPC sync server", e);
+        }
+    }
+
+    public void stop() {
+        flagSyncService.completeAll();
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("flagd gRPC sync server stopped");
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+}
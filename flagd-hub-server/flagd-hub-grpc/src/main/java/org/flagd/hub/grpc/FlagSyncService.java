@@ -0,0 +1,200 @@
+package org.flagd.hub.grpc;
+
+import com.google.protobuf.Struct;
+import dev.openfeature.flagd.grpc.sync.FetchAllFlagsRequest;
+import dev.openfeature.flagd.grpc.sync.FetchAllFlagsResponse;
+import dev.openfeature.flagd.grpc.sync.FlagSyncServiceGrpc;
+import dev.openfeature.flagd.grpc.sync.GetMetadataRequest;
+import dev.openfeature.flagd.grpc.sync.GetMetadataResponse;
+import dev.openfeature.flagd.grpc.sync.SyncFlagsRequest;
+import dev.openfeature.flagd.grpc.sync.SyncFlagsResponse;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * flagd gRPC sync provider. Every {@code SyncFlags} stream receives the current configuration
+ * for its selector on subscription and afterwards only when {@link #publish()} finds it changed,
+ * so idle streams cost nothing. Slow consumers are conflated: they only ever receive the latest configuration.
+ * Every read of a configuration takes a generation first, and a stream never takes a configuration read
+ * in an older generation than the one it already has, so concurrent reads cannot push a stale configuration last.
+ */
+@Log4j2
+public class FlagSyncService extends FlagSyncServiceGrpc.FlagSyncServiceImplBase {
+    private final FlagConfigurationSource flagConfigurationSource;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generations = new AtomicLong();
+
+    public FlagSyncService(FlagConfigurationSource flagConfigurationSource) {
+        this.flagConfigurationSource = flagConfigurationSource;
+    }
+
+    @Override
+    public void syncFlags(SyncFlagsRequest request, StreamObserver<SyncFlagsResponse> responseObserver) {
+        try {
+            flagConfigurationSource.getFlagConfiguration(request.getSelector());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+
+        ServerCallStreamObserver<SyncFlagsResponse> observer = (ServerCallStreamObserver<SyncFlagsResponse>) responseObserver;
+        Subscriber subscriber = new Subscriber(request.getProviderId(), request.getSelector(), observer);
+        observer.setOnCancelHandler(() -> {
+            subscribers.remove(subscriber);
+            log.debug("sync stream of provider '{}' closed", subscriber.providerId);
+        });
+        observer.setOnReadyHandler(subscriber::drain);
+
+        // subscribe before reading, so a change published from now on reaches the stream
+        subscribers.add(subscriber);
+        log.debug("provider '{}' subscribed to flag sync with selector '{}'", request.getProviderId(), request.getSelector());
+        long generation = generations.incrementAndGet();
+        String flagConfiguration;
+        try {
+            flagConfiguration = flagConfigurationSource.getFlagConfiguration(request.getSelector());
+        } catch (RuntimeException e) {
+            log.warn("failed reading the flag configuration of provider '{}' - {}", request.getProviderId(), e.getMessage());
+            subscriber.fail(Status.INTERNAL.withDescription("flag configuration unavailable"));
+            return;
+        }
+        subscriber.offer(flagConfiguration, generation);
+    }
+
+    @Override
+    public void fetchAllFlags(FetchAllFlagsRequest request, StreamObserver<FetchAllFlagsResponse> responseObserver) {
+        String flagConfiguration;
+        try {
+            flagConfiguration = flagConfigurationSource.getFlagConfiguration(request.getSelector());
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+
+        responseObserver.onNext(FetchAllFlagsResponse.newBuilder()
+                .setFlagConfiguration(flagConfiguration)
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getMetadata(GetMetadataRequest request, StreamObserver<GetMetadataResponse> responseObserver) {
+        responseObserver.onNext(GetMetadataResponse.newBuilder()
+                .setMetadata(Struct.getDefaultInstance())
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Pushes the current configuration of its selector to every connected sync stream it changed for.
+     * The configuration of every selector is read once.
+     * @return the number of streams the configuration was pushed to
+     */
+    public int publish() {
+        long generation = generations.incrementAndGet();
+        Map<String, String> flagConfigurations = new HashMap<>();
+        int pushes = 0;
+        for (Subscriber subscriber : subscribers) {
+            String flagConfiguration = flagConfigurations.computeIfAbsent(subscriber.selector,
+                    flagConfigurationSource::getFlagConfiguration);
+            if (subscriber.offer(flagConfiguration, generation)) {
+                pushes++;
+            }
+        }
+        log.debug("published flag configurations of {} selectors to {} of {} sync streams",
+                flagConfigurations.size(), pushes, subscribers.size());
+
+        return pushes;
+    }
+
+    /**
+     * Gracefully completes every open sync stream.
+     */
+    public void completeAll() {
+        subscribers.forEach(Subscriber::complete);
+        subscribers.clear();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private final class Subscriber {
+        private final String providerId;
+        private final String selector;
+        private final ServerCallStreamObserver<SyncFlagsResponse> observer;
+        private final AtomicReference<String> pending = new AtomicReference<>();
+        private String offered;
+        private long offeredGeneration;
+
+        private Subscriber(String providerId, String selector, ServerCallStreamObserver<SyncFlagsResponse> observer) {
+            this.providerId = providerId;
+            this.selector = selector;
+            this.observer = observer;
+        }
+
+        /**
+         * @param generation the generation taken before the configuration was read
+         * @return false if the configuration was already offered or a newer one was
+         */
+        private synchronized boolean offer(String flagConfiguration, long generation) {
+            if (generation < offeredGeneration) {
+                return false;
+            }
+
+            offeredGeneration = generation;
+            if (flagConfiguration.equals(offered)) {
+                return false;
+            }
+
+            offered = flagConfiguration;
+            pending.set(flagConfiguration);
+            drain();
+            return true;
+        }
+
+        private synchronized void drain() {
+            try {
+                String flagConfiguration;
+                while (!observer.isCancelled() && observer.isReady() && (flagConfiguration = pending.getAndSet(null)) != null) {
+                    observer.onNext(SyncFlagsResponse.newBuilder()
+                            .setFlagConfiguration(flagConfiguration)
+                            .build());
+                }
+            } catch (RuntimeException e) {
+                log.warn("failed pushing flag configuration to provider '{}' - {}", providerId, e.getMessage());
+                fail(Status.INTERNAL.withDescription("failed pushing flag configuration"));
+            }
+        }
+
+        /**
+         * Unsubscribes and closes the stream with the status, so the provider reconnects instead of
+         * waiting on a stream that never receives another configuration.
+         */
+        private synchronized void fail(Status status) {
+            subscribers.remove(this);
+            if (observer.isCancelled()) {
+                return;
+            }
+            try {
+                observer.onError(status.asRuntimeException());
+            } catch (RuntimeException e) {
+                log.debug("sync stream of provider '{}' already closed - {}", providerId, e.getMessage());
+            }
+        }
+
+        private synchronized void complete() {
+            if (!observer.isCancelled()) {
+                observer.onCompleted();
+            }
+        }
+    }
+}
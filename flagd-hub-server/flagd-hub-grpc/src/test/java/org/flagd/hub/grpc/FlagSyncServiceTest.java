@@ -0,0 +1,206 @@
+package org.flagd.hub.grpc;
+
+import dev.openfeature.flagd.grpc.sync.FetchAllFlagsRequest;
+import dev.openfeature.flagd.grpc.sync.FlagSyncServiceGrpc;
+import dev.openfeature.flagd.grpc.sync.SyncFlagsRequest;
+import dev.openfeature.flagd.grpc.sync.SyncFlagsResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagSyncServiceTest {
+    private static final String INITIAL_CONFIGURATION = "{\"flags\":{}}";
+    private static final String UPDATED_CONFIGURATION = "{\"flags\":{\"flag\":{\"state\":\"ENABLED\"}}}";
+
+    private final AtomicReference<String> currentConfiguration = new AtomicReference<>(INITIAL_CONFIGURATION);
+    /** runs after every read of the whole configuration, before it is returned */
+    private final AtomicReference<Runnable> afterRead = new AtomicReference<>(() -> {
+    });
+    private FlagSyncService flagSyncService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        flagSyncService = new FlagSyncService(selector -> {
+            if (selector.isEmpty()) {
+                String configuration = currentConfiguration.get();
+                afterRead.get().run();
+                return configuration;
+            }
+            if (!selector.startsWith("area:")) {
+                throw new IllegalArgumentException("unsupported selector");
+            }
+            return "{\"flags\":{},\"selector\":\"" + selector + "\"}";
+        });
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(flagSyncService)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("FetchAllFlags returns the current configuration")
+    void fetchAllFlags_ReturnsCurrentConfiguration() {
+        String configuration = FlagSyncServiceGrpc.newBlockingStub(channel)
+                .fetchAllFlags(FetchAllFlagsRequest.newBuilder().build())
+                .getFlagConfiguration();
+
+        assertEquals(INITIAL_CONFIGURATION, configuration);
+    }
+
+    @Test
+    @DisplayName("SyncFlags sends the current configuration and then only published changes")
+    void syncFlags_ReceivesInitialAndPublishedConfigurations() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        FlagSyncServiceGrpc.newStub(channel).syncFlags(
+                SyncFlagsRequest.newBuilder().setProviderId("test-provider").build(),
+                collectingObserver(received));
+
+        assertEquals(INITIAL_CONFIGURATION, received.poll(5, TimeUnit.SECONDS));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+        currentConfiguration.set(UPDATED_CONFIGURATION);
+        assertEquals(1, flagSyncService.publish());
+
+        assertEquals(UPDATED_CONFIGURATION, received.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, flagSyncService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("SyncFlags streams keep a change published between subscribing and the first configuration")
+    void syncFlags_WithPublishBeforeFirstOffer_ReceivesLatestConfiguration() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        afterRead.set(() -> {
+            // the first read validates the selector, the second one is the initial configuration of the stream
+            if (reads.incrementAndGet() == 2) {
+                currentConfiguration.set(UPDATED_CONFIGURATION);
+                assertEquals(1, flagSyncService.publish());
+            }
+        });
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        FlagSyncServiceGrpc.newStub(channel).syncFlags(
+                SyncFlagsRequest.newBuilder().setProviderId("test-provider").build(),
+                collectingObserver(received));
+
+        assertEquals(UPDATED_CONFIGURATION, received.poll(5, TimeUnit.SECONDS));
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, flagSyncService.publish());
+    }
+
+    @Test
+    @DisplayName("SyncFlags streams receive the configuration of their selector, and only when it changed")
+    void syncFlags_WithSelector_ReceivesSelectedConfiguration() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        FlagSyncServiceGrpc.newStub(channel).syncFlags(
+                SyncFlagsRequest.newBuilder().setSelector("area:payments").build(),
+                collectingObserver(received));
+
+        assertEquals("{\"flags\":{},\"selector\":\"area:payments\"}", received.poll(5, TimeUnit.SECONDS));
+
+        currentConfiguration.set(UPDATED_CONFIGURATION);
+        assertEquals(0, flagSyncService.publish());
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("SyncFlags streams whose initial configuration cannot be read are closed with INTERNAL")
+    void syncFlags_WithFailingInitialRead_ClosesStream() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        afterRead.set(() -> {
+            if (reads.incrementAndGet() == 2) {
+                throw new IllegalStateException("storage unavailable");
+            }
+        });
+
+        BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        FlagSyncServiceGrpc.newStub(channel).syncFlags(SyncFlagsRequest.newBuilder().build(), new StreamObserver<>() {
+            @Override
+            public void onNext(SyncFlagsResponse response) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+
+        assertEquals(Status.Code.INTERNAL, Status.fromThrowable(errors.poll(5, TimeUnit.SECONDS)).getCode());
+        assertEquals(0, flagSyncService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Unsupported selectors are rejected with INVALID_ARGUMENT")
+    void fetchAllFlags_WithUnsupportedSelector_ReturnsInvalidArgument() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                FlagSyncServiceGrpc.newBlockingStub(channel)
+                        .fetchAllFlags(FetchAllFlagsRequest.newBuilder().setSelector("tag:beta").build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Cancelled sync streams are unsubscribed")
+    void syncFlags_WhenClientCancels_RemovesSubscriber() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        FlagSyncServiceGrpc.newStub(channel).syncFlags(
+                SyncFlagsRequest.newBuilder().build(),
+                collectingObserver(received));
+        assertEquals(INITIAL_CONFIGURATION, received.poll(5, TimeUnit.SECONDS));
+
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (flagSyncService.getSubscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, flagSyncService.getSubscriberCount());
+    }
+
+    private static StreamObserver<SyncFlagsResponse> collectingObserver(BlockingQueue<String> received) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(SyncFlagsResponse response) {
+                received.add(response.getFlagConfiguration());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+}